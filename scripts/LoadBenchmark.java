@@ -0,0 +1,165 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop HTTP load generator used by the benchmark scripts. No dependencies - run it with
+//   java scripts/LoadBenchmark.java --base-url http://localhost:8080 --paths /api/tasks,/api/tasks/1
+// Options: --concurrency (200) --warmup seconds (10) --duration seconds (30) --label (run)
+//          --accept (application/json)
+// Each of --concurrency clients sends requests back to back, cycling through --paths.
+// Prints one markdown table row per path plus a total row: requests, req/s, p50/p90/p99/max, errors.
+public class LoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        List<String> paths = Arrays.asList(options.getOrDefault("paths", "/api/tasks").split(","));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))).toNanos();
+        long durationNanos = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))).toNanos();
+        String label = options.getOrDefault("label", "run");
+        String accept = options.getOrDefault("accept", "application/json");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String path : paths) {
+            requests.add(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Accept", accept)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build());
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<Recorder>> results = new ArrayList<>();
+        for (int c = 0; c < concurrency; c++) {
+            int offset = c;
+            results.add(clients.submit(() -> runClient(client, requests, offset, measureFrom, end)));
+        }
+
+        Recorder[] perPath = new Recorder[paths.size()];
+        for (int i = 0; i < perPath.length; i++) {
+            perPath[i] = new Recorder(paths.size());
+        }
+        Recorder total = new Recorder(1);
+        for (Future<Recorder> future : results) {
+            Recorder recorder = future.get();
+            for (int i = 0; i < perPath.length; i++) {
+                perPath[i].addAll(recorder, i);
+                total.addAll(recorder, i, 0);
+            }
+        }
+        clients.shutdown();
+
+        double seconds = durationNanos / 1e9;
+        System.out.println("| mode | path | requests | req/s | p50 ms | p90 ms | p99 ms | max ms | errors |");
+        System.out.println("|------|------|---------:|------:|-------:|-------:|-------:|-------:|-------:|");
+        for (int i = 0; i < perPath.length; i++) {
+            System.out.println(perPath[i].row(label, paths.get(i), i, seconds));
+        }
+        System.out.println(total.row(label, "all", 0, seconds));
+    }
+
+    private static Recorder runClient(HttpClient client, List<HttpRequest> requests, int offset,
+                                      long measureFrom, long end) {
+        Recorder recorder = new Recorder(requests.size());
+        int i = offset;
+        while (true) {
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                return recorder;
+            }
+            int index = i++ % requests.size();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(requests.get(index), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return recorder;
+            }
+            if (sent >= measureFrom) {
+                recorder.record(index, System.nanoTime() - sent, ok);
+            }
+        }
+    }
+
+    // Latencies per path, kept as raw nanos so percentiles are exact
+    private static class Recorder {
+        private final long[][] latencies;
+        private final int[] counts;
+        private final int[] errors;
+
+        Recorder(int slots) {
+            latencies = new long[slots][1024];
+            counts = new int[slots];
+            errors = new int[slots];
+        }
+
+        void record(int slot, long nanos, boolean ok) {
+            if (counts[slot] == latencies[slot].length) {
+                latencies[slot] = Arrays.copyOf(latencies[slot], counts[slot] * 2);
+            }
+            latencies[slot][counts[slot]++] = nanos;
+            if (!ok) {
+                errors[slot]++;
+            }
+        }
+
+        void addAll(Recorder other, int slot) {
+            addAll(other, slot, slot);
+        }
+
+        void addAll(Recorder other, int fromSlot, int toSlot) {
+            for (int i = 0; i < other.counts[fromSlot]; i++) {
+                record(toSlot, other.latencies[fromSlot][i], true);
+            }
+            errors[toSlot] += other.errors[fromSlot];
+        }
+
+        String row(String label, String path, int slot, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies[slot], counts[slot]);
+            Arrays.sort(sorted);
+            return String.format("| %s | %s | %d | %.0f | %.2f | %.2f | %.2f | %.2f | %d |",
+                    label, path, sorted.length, sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0), errors[slot]);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Load benchmark: blocking API (/api/tasks, MVC + JPA) vs reactive API (/api/v2/tasks, Mono/Flux + R2DBC).
+#
+# Builds the jar, starts the app once, seeds SEED_TASKS tasks through the bulk endpoint, then runs
+# scripts/LoadBenchmark.java with the same request mix against each API. The default concurrency is
+# well above the Tomcat worker pool (200 threads), which is where the two stacks behave differently.
+# Rate limiting is switched off: all the load comes from one client address.
+#
+# Tunables (environment): PORT, CONCURRENCY, WARMUP, DURATION, SEED_TASKS, APP_ARGS (extra app arguments,
+# e.g. APP_ARGS=--spring.profiles.active=virtual on a Java 21 build)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+CONCURRENCY=${CONCURRENCY:-1000}
+WARMUP=${WARMUP:-10}
+DURATION=${DURATION:-30}
+SEED_TASKS=${SEED_TASKS:-5000}
+APP_ARGS=${APP_ARGS:-}
+BASE_URL="http://localhost:${PORT}"
+
+paths() {
+    local prefix=$1
+    echo "${prefix}?size=50,${prefix}/42,${prefix}/pending?size=50,${prefix}/search?q=task%2042"
+}
+
+mvn -B -q -DskipTests package
+JAR=target/task-management-api-1.0.0.jar
+
+seed() {
+    local batch=1000
+    for ((start = 0; start < SEED_TASKS; start += batch)); do
+        local body="["
+        for ((i = start; i < start + batch && i < SEED_TASKS; i++)); do
+            [[ $i -gt $start ]] && body+=","
+            body+="{\"title\":\"Task $i\",\"description\":\"Benchmark task number $i\"}"
+        done
+        body+="]"
+        curl -sf -o /dev/null -X POST "${BASE_URL}/api/tasks/bulk" -H "Content-Type: application/json" -d "$body"
+    done
+}
+
+# shellcheck disable=SC2086
+java -jar "$JAR" --server.port="$PORT" --notification.dispatch.enabled=false --tasks.rate-limit.enabled=false $APP_ARGS \
+    > target/benchmark-stacks.log 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+until curl -s -o /dev/null "${BASE_URL}/actuator/health"; do sleep 1; done
+seed
+
+for stack in blocking reactive; do
+    if [[ $stack == blocking ]]; then prefix=/api/tasks; else prefix=/api/v2/tasks; fi
+    java scripts/LoadBenchmark.java --base-url "$BASE_URL" --paths "$(paths "$prefix")" --label "$stack" \
+        --concurrency "$CONCURRENCY" --warmup "$WARMUP" --duration "$DURATION"
+done
@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# Startup benchmark: time from launching the JVM (or native executable) to the first answered request.
+#
+# Builds the jar with AOT processing and a CDS archive (mvn -Paot,cds), then starts the app RUNS times
+# in each mode and reports the median milliseconds until GET /api/tasks/1 gets a response (404 on an
+# empty database is fine) and until /actuator/health/readiness reports UP, i.e. after the cache warm-up.
+#   jar      java -jar, nothing precomputed
+#   aot      same jar with the AOT-generated bean definitions (-Dspring.aot.enabled=true)
+#   cds      unpacked jar with the class data sharing archive
+#   aot-cds  both
+#   native   target/task-management-api, only when it has been built (mvn -Pnative native:compile)
+# Every mode uses the same default profile and in-memory database.
+#
+# Tunables (environment): PORT, RUNS
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+BASE_URL="http://localhost:${PORT}"
+APP_ARGS=(--server.port="$PORT" --spring.jpa.show-sql=false --notification.dispatch.enabled=false)
+MAIN_CLASS=com.example.taskmanagement.TaskManagementApplication
+
+mvn -B -q -Paot,cds -DskipTests package
+JAR=target/task-management-api-1.0.0.jar
+CDS_DIR=target/cds
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+# Start the app with the given command (run from the given directory), print "first-request readiness" in ms
+measure() {
+    local dir=$1; shift
+    local start first ready pid
+    start=$(now_ms)
+    (cd "$dir" && exec "$@" "${APP_ARGS[@]}") > target/benchmark-startup.log 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "${BASE_URL}/api/tasks/1"; do sleep 0.01; done
+    first=$(now_ms)
+    until curl -sf -o /dev/null "${BASE_URL}/actuator/health/readiness"; do sleep 0.01; done
+    ready=$(now_ms)
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$((first - start)) $((ready - start))"
+}
+
+run_mode() {
+    local label=$1 dir=$2; shift 2
+    local results
+    results=$(for ((i = 0; i < RUNS; i++)); do measure "$dir" "$@"; done)
+    printf '%-8s first request %6s ms   ready %6s ms\n' "$label" \
+        "$(cut -d' ' -f1 <<< "$results" | median)" "$(cut -d' ' -f2 <<< "$results" | median)"
+}
+
+run_mode jar . java -jar "$JAR"
+run_mode aot . java -Dspring.aot.enabled=true -jar "$JAR"
+run_mode cds "$CDS_DIR" java -XX:SharedArchiveFile=application.jsa -cp "application.jar:BOOT-INF/lib/*" "$MAIN_CLASS"
+run_mode aot-cds "$CDS_DIR" java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+    -cp "application.jar:BOOT-INF/lib/*" "$MAIN_CLASS"
+if [[ -x target/task-management-api ]]; then
+    run_mode native . target/task-management-api
+fi
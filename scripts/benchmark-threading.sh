@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Load benchmark: platform threads vs virtual threads on the same TaskController endpoints.
+#
+# Builds the Java 21 jar (mvn -Pvirtual-threads), then for each mode starts the app, seeds
+# SEED_TASKS tasks through the bulk endpoint, and runs scripts/LoadBenchmark.java against it.
+# Both modes run on the same JDK and jar - the only difference is the "virtual" Spring profile.
+# Rate limiting is switched off: all the load comes from one client address.
+#
+# Requires JDK 21 on PATH. Tunables (environment): PORT, CONCURRENCY, WARMUP, DURATION, SEED_TASKS
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+CONCURRENCY=${CONCURRENCY:-400}
+WARMUP=${WARMUP:-10}
+DURATION=${DURATION:-30}
+SEED_TASKS=${SEED_TASKS:-5000}
+BASE_URL="http://localhost:${PORT}"
+PATHS="/api/tasks?size=50,/api/tasks/42,/api/tasks/pending?size=50,/api/tasks/search?q=task%2042"
+
+mvn -B -q -Pvirtual-threads -DskipTests package
+JAR=target/task-management-api-1.0.0.jar
+
+seed() {
+    local batch=1000
+    for ((start = 0; start < SEED_TASKS; start += batch)); do
+        local body="["
+        for ((i = start; i < start + batch && i < SEED_TASKS; i++)); do
+            [[ $i -gt $start ]] && body+=","
+            body+="{\"title\":\"Task $i\",\"description\":\"Benchmark task number $i\"}"
+        done
+        body+="]"
+        curl -sf -o /dev/null -X POST "${BASE_URL}/api/tasks/bulk" -H "Content-Type: application/json" -d "$body"
+    done
+}
+
+run_mode() {
+    local label=$1; shift
+    java -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false \
+        --notification.dispatch.enabled=false --tasks.rate-limit.enabled=false "$@" > "target/benchmark-${label}.log" 2>&1 &
+    local pid=$!
+    until curl -s -o /dev/null "${BASE_URL}/actuator/health"; do sleep 1; done
+    seed
+    java scripts/LoadBenchmark.java --base-url "$BASE_URL" --paths "$PATHS" --label "$label" \
+        --concurrency "$CONCURRENCY" --warmup "$WARMUP" --duration "$DURATION"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform
+run_mode virtual --spring.profiles.active=virtual
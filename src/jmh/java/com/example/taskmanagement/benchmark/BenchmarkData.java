@@ -0,0 +1,80 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic test data for the benchmarks - the same seed always produces the same tasks,
+// so runs on different machines and commits measure the same work
+final class BenchmarkData {
+
+    static final long SEED = 42;
+
+    // Fixed clock so timestamps (and their JSON length) don't vary between runs
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 9, 30, 0);
+
+    // Due dates in create requests must pass @Future, so they count from a fixed date far ahead instead
+    static final LocalDateTime FUTURE = LocalDateTime.of(2100, 1, 15, 9, 30, 0);
+
+    static final String[] WORDS = {
+            "deploy", "review", "spring", "database", "migration", "invoice", "customer", "release",
+            "backup", "report", "meeting", "budget", "design", "testing", "security", "cache",
+            "search", "index", "monitoring", "alert", "planning", "sprint", "refactor", "onboarding"
+    };
+
+    private BenchmarkData() {}
+
+    // Tasks as they come out of the database (ids and timestamps set)
+    static List<Task> tasks(int count) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task(title(random), description(random));
+            task.setId((long) i + 1);
+            task.setCreatedAt(NOW.minusMinutes(i));
+            task.setDueDate(NOW.plusDays(1 + random.nextInt(30)));
+            task.setIsCompleted(random.nextInt(4) == 0);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    // Create requests as a client would send them. Each batch number yields a different (but fixed) set.
+    static List<TaskCreateRequest> createRequests(int batch, int count) {
+        Random random = new Random(SEED + batch);
+        List<TaskCreateRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new TaskCreateRequest(title(random), description(random),
+                    FUTURE.plusDays(1 + random.nextInt(30))));
+        }
+        return requests;
+    }
+
+    private static String title(Random random) {
+        return capitalize(word(random)) + " " + word(random) + " " + word(random);
+    }
+
+    private static String description(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int words = 8 + random.nextInt(24);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(word(random));
+        }
+        return sb.toString();
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.config.TaskStoreProperties;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.store.TaskColumnStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Reads from the column store (tasks.store.enabled): a lookup by id and 50-task pages by status and
+// due date, deep into a large store. gc.alloc.rate.norm should be just the returned DTOs.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TaskColumnStoreBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int storeSize;
+
+    private TaskColumnStore store;
+    private long middleId;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+
+    @Setup
+    public void setUp() {
+        TaskStoreProperties properties = new TaskStoreProperties();
+        properties.setEnabled(true);
+        store = new TaskColumnStore(null, null, properties, new SimpleMeterRegistry());
+
+        // Fed the way committed writes feed it
+        TaskMapper mapper = new TaskMapper();
+        for (Task task : BenchmarkData.tasks(storeSize)) {
+            task.setVersion(0L);
+            store.onTaskChanged(TaskChangedEvent.created(mapper.toResponse(task)));
+        }
+        middleId = storeSize / 2;
+        dueFrom = BenchmarkData.NOW.plusDays(10);
+        dueTo = BenchmarkData.NOW.plusDays(11);
+    }
+
+    @Benchmark
+    public Optional<TaskResponse> getById() {
+        return store.get(middleId);
+    }
+
+    // About 3 in 4 tasks are pending
+    @Benchmark
+    public CursorPage<TaskResponse> pendingPage() {
+        return store.page(middleId, 50, false);
+    }
+
+    // About 1 in 4 tasks is completed
+    @Benchmark
+    public CursorPage<TaskResponse> completedPage() {
+        return store.page(middleId, 50, true);
+    }
+
+    // About 1 in 40 tasks is pending and due on a given day
+    @Benchmark
+    public CursorPage<TaskResponse> dueBetweenPage() {
+        return store.pagePendingDueBetween(dueFrom, dueTo, middleId, 50);
+    }
+}
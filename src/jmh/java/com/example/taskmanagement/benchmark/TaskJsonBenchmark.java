@@ -0,0 +1,84 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.example.taskmanagement.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the request/response bodies, configured the way Spring Boot configures it
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+    private ObjectWriter taskWriter;
+    private ObjectWriter responseWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader taskReader;
+    private ObjectReader createRequestReader;
+
+    private Task task;
+    private TaskResponse response;
+    private List<TaskResponse> page;
+    private byte[] taskJson;
+    private byte[] createRequestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same modules and date format as the application's ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        taskWriter = objectMapper.writerFor(Task.class);
+        responseWriter = objectMapper.writerFor(TaskResponse.class);
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+        taskReader = objectMapper.readerFor(Task.class);
+        createRequestReader = objectMapper.readerFor(TaskCreateRequest.class);
+
+        TaskMapper mapper = new TaskMapper();
+        List<Task> tasks = BenchmarkData.tasks(50);
+        task = tasks.get(0);
+        response = mapper.toResponse(task);
+        page = mapper.toResponseList(tasks);
+        taskJson = taskWriter.writeValueAsBytes(task);
+        createRequestJson = objectMapper.writeValueAsBytes(BenchmarkData.createRequests(0, 1).get(0));
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws Exception {
+        return taskWriter.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    // One default-sized page (50 tasks)
+    @Benchmark
+    public byte[] serializeResponsePage() throws Exception {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws Exception {
+        return taskReader.readValue(taskJson);
+    }
+
+    @Benchmark
+    public TaskCreateRequest deserializeCreateRequest() throws Exception {
+        return createRequestReader.readValue(createRequestJson);
+    }
+}
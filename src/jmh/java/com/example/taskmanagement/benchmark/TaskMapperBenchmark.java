@@ -0,0 +1,42 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.example.taskmanagement.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO mapping, for a single task and for lists the size of a page, a max page and a bulk call
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    @Param({"1", "50", "500", "10000"})
+    public int size;
+
+    private final TaskMapper mapper = new TaskMapper();
+    private List<Task> tasks;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+        task = tasks.get(0);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return mapper.toResponse(task);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponseList() {
+        return mapper.toResponseList(tasks);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.service.TaskBulkService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Uncached read path: database rows -> JSON bytes, the way a cache miss serves a page.
+// "entity" is the previous path (managed Task entities serialized by the shared ObjectMapper),
+// "projection" the current one (TaskResponse constructor expression + precomputed writer).
+// Both run the same JPQL through their own entity manager and transaction, so the difference
+// is hydration, persistence-context bookkeeping and serialization. Compare gc.alloc.rate.norm.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class TaskReadPathBenchmark {
+
+    private static final int CORPUS_SIZE = 10_000;
+
+    @Param({"50", "500"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private long cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "notification.dispatch.enabled=false")
+                .run();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        pageWriter = objectMapper.writerFor(new TypeReference<CursorPage<TaskResponse>>() {});
+
+        TaskBulkService bulk = context.getBean(TaskBulkService.class);
+        int chunk = 5_000;
+        for (int from = 0; from < CORPUS_SIZE; from += chunk) {
+            bulk.createTasks(BenchmarkData.createRequests(from / chunk, chunk));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Walk through the table so every call reads different rows
+    private long nextCursor() {
+        cursor = (cursor + pageSize) % (CORPUS_SIZE - pageSize);
+        return cursor;
+    }
+
+    // Previous path: entities loaded into the persistence context (with dirty-checking snapshots),
+    // then serialized by the shared ObjectMapper
+    @Benchmark
+    public byte[] entityPage() throws Exception {
+        List<Task> rows = query("select t from Task t where t.id > :afterId order by t.id", Task.class);
+        return objectMapper.writeValueAsBytes(CursorPage.of(rows, pageSize, Task::getId));
+    }
+
+    // Current path: the same query selecting into TaskResponse, written with a precomputed writer
+    @Benchmark
+    public byte[] projectionPage() throws Exception {
+        List<TaskResponse> rows = query("select new com.example.taskmanagement.dto.TaskResponse("
+                + "t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+                + "from Task t where t.id > :afterId order by t.id", TaskResponse.class);
+        return pageWriter.writeValueAsBytes(CursorPage.of(rows, pageSize, TaskResponse::getId));
+    }
+
+    // One entity manager and transaction per call, like one request
+    private <T> List<T> query(String jpql, Class<T> type) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<T> rows = entityManager.createQuery(jpql, type)
+                    .setParameter("afterId", nextCursor())
+                    .setMaxResults(pageSize + 1)
+                    .getResultList();
+            entityManager.getTransaction().commit();
+            return rows;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
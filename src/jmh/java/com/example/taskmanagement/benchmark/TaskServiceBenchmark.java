@@ -0,0 +1,109 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.service.TaskBulkService;
+import com.example.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// TaskService against the real application context and embedded H2: single-task lookups with and
+// without a cache hit, and full-text searches over a seeded corpus
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    // Lookups rotate over this many ids so the hit path isn't just one hot entry
+    private static final int HOT_IDS = 1000;
+
+    @Param({"10000"})
+    public int corpusSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Cache taskByIdCache;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "notification.dispatch.enabled=false")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        taskByIdCache = context.getBean(CacheManager.class).getCache(CacheConfig.TASK_BY_ID);
+
+        TaskBulkService bulk = context.getBean(TaskBulkService.class);
+        int chunk = 5_000;
+        for (int from = 0; from < corpusSize; from += chunk) {
+            bulk.createTasks(BenchmarkData.createRequests(from / chunk, Math.min(chunk, corpusSize - from)));
+        }
+
+        // Populate the cache for the hit path, and give the search index time to publish the seeded tasks
+        for (long id = 1; id <= HOT_IDS; id++) {
+            taskService.getTaskById(id);
+        }
+        Thread.sleep(1000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextId() {
+        next = next % HOT_IDS + 1;
+        return next;
+    }
+
+    @Benchmark
+    public Optional<TaskResponse> getTaskByIdCacheHit() {
+        return taskService.getTaskById(nextId());
+    }
+
+    // Evicting first forces the database round trip (the evict itself is a hash map removal)
+    @Benchmark
+    public Optional<TaskResponse> getTaskByIdCacheMiss() {
+        long id = nextId();
+        taskByIdCache.evict(id);
+        return taskService.getTaskById(id);
+    }
+
+    @Benchmark
+    public TaskSearchResults searchSingleTerm() {
+        return taskService.searchTasks("migration", 0, 20);
+    }
+
+    @Benchmark
+    public TaskSearchResults searchPrefix() {
+        return taskService.searchTasks("mon", 0, 20);
+    }
+
+    @Benchmark
+    public TaskSearchResults searchAllTerms() {
+        return taskService.searchTasks("spring release backup", 0, 20);
+    }
+
+    // A deep page: collects and ranks page * size hits before slicing
+    @Benchmark
+    public TaskSearchResults searchDeepPage() {
+        return taskService.searchTasks("deploy", 50, 20);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// The same list of tasks in each wire format (see WireFormats), with and without gzip:
+// time to encode and decode it, and the payload size (printed once per trial)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class TaskWireFormatBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TaskResponse> tasks;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same settings as the application's mappers; only the encoding differs
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build();
+            default -> new JsonFactory();
+        };
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+        reader = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+
+        tasks = new TaskMapper().toResponseList(BenchmarkData.tasks(size));
+        payload = serialize();
+        System.out.printf("%n%s%s, %d tasks: %d bytes (%.1f per task)%n", format, gzip ? "+gzip" : "",
+                size, payload.length, (double) payload.length / size);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        if (!gzip) {
+            return writer.writeValueAsBytes(tasks);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, tasks);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<TaskResponse> deserialize() throws IOException {
+        if (!gzip) {
+            return reader.readValue(payload);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return reader.readValue(in);
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.example.taskmanagement;
 
+import com.example.taskmanagement.config.TaskRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 // This annotation tells Spring Boot this is the main application class
 @SpringBootApplication
 @EnableCaching  // Enable caching support
+@ConfigurationPropertiesScan  // Pick up @ConfigurationProperties classes in config/
+@EnableScheduling  // Periodic jobs such as the task stats reconciliation
+@ImportRuntimeHints(TaskRuntimeHints.class)  // Reflection the AOT and native builds can't infer
 public class TaskManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,177 @@
+package com.example.taskmanagement.archive;
+
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.config.TaskArchiveProperties;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.repository.TaskArchiveRepository;
+import com.example.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Moves completed tasks out of the tasks table once they have been completed for tasks.archive.age,
+// so the lists, status pages, search index, stats and caches only carry live tasks however much
+// history builds up.
+//
+// Each batch is one transaction: lock the oldest due tasks, copy them into tasks_archive and delete
+// them from tasks. Every moved task is published as ARCHIVED, which the listeners treat like a delete
+// (and the change feed reports as ARCHIVED). Archived tasks stay readable with includeArchived - by id
+// and in the all/completed pages - and restore moves a task back with its id and version.
+@Component
+public class TaskArchiver implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final Cache taskByIdCache;
+
+    private final Counter archivedTasks;
+    private final Counter restoredTasks;
+
+    public TaskArchiver(TaskRepository taskRepository, TaskArchiveRepository taskArchiveRepository,
+                        ApplicationEventPublisher eventPublisher, TaskArchiveProperties properties,
+                        PlatformTransactionManager transactionManager, CacheManager cacheManager,
+                        MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskByIdCache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+
+        // Pages that include archived tasks read both tables from the same snapshot
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        this.archivedTasks = Counter.builder("tasks.archive.archived")
+                .description("Tasks moved to the archive")
+                .register(meterRegistry);
+        this.restoredTasks = Counter.builder("tasks.archive.restored")
+                .description("Tasks moved back from the archive")
+                .register(meterRegistry);
+    }
+
+    // Run every tasks.archive.interval when enabled (registered here so the interval is the bound Duration)
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.isEnabled()) {
+            Duration interval = properties.getInterval();
+            registrar.addFixedDelayTask(new FixedDelayTask(this::archiveCompleted, interval, interval));
+        }
+    }
+
+    // Archive every task completed more than tasks.archive.age ago, one batch per transaction,
+    // and return how many were moved
+    public int archiveCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getAge());
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long start = System.currentTimeMillis();
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            log.info("Archived {} tasks completed before {} in {}ms", total, cutoff, System.currentTimeMillis() - start);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = taskArchiveRepository.lockArchivable(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<TaskResponse> tasks = taskRepository.findResponsesByIdIn(ids);
+        taskArchiveRepository.copyFromTasks(ids, LocalDateTime.now());
+        taskRepository.deleteAllByIdInBatch(ids);
+        for (TaskResponse task : tasks) {
+            taskByIdCache.evict(task.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.archived(task));
+        }
+        archivedTasks.increment(ids.size());
+        return ids.size();
+    }
+
+    // Move an archived task back to the tasks table. It stays completed, and its completion time
+    // restarts now so it isn't archived again for another tasks.archive.age. Empty if it isn't archived.
+    public Optional<TaskResponse> restore(Long id) {
+        Optional<TaskResponse> restored = transactionTemplate.execute(status -> {
+            if (taskArchiveRepository.lockArchived(id).isEmpty()) {
+                return Optional.<TaskResponse>empty();
+            }
+            taskArchiveRepository.copyToTasks(id, LocalDateTime.now());
+            taskArchiveRepository.deleteAllByIdInBatch(List.of(id));
+            Optional<TaskResponse> task = taskRepository.findResponseById(id);
+            task.ifPresent(after -> {
+                taskByIdCache.put(id, after);
+                eventPublisher.publishEvent(TaskChangedEvent.restored(after));
+            });
+            return task;
+        });
+        if (restored.isPresent()) {
+            restoredTasks.increment();
+        }
+        return restored;
+    }
+
+    // One archived task
+    public Optional<TaskResponse> getArchived(Long id) {
+        return taskArchiveRepository.findResponseById(id);
+    }
+
+    // A keyset page over the active and archived tasks together (only completed ones if completedOnly).
+    // Both tables are read after the cursor in id order and merged, so the cursor works across them.
+    public CursorPage<TaskResponse> pageIncludingArchived(boolean completedOnly, Long cursor, int size) {
+        return snapshotTransaction.execute(status -> {
+            Limit limit = Limit.of(size + 1);
+            List<TaskResponse> active = completedOnly
+                    ? taskRepository.findResponsesByIsCompletedAfter(true, cursor, limit)
+                    : taskRepository.findResponsesAfter(cursor, limit);
+            List<TaskResponse> archived = taskArchiveRepository.findResponsesAfter(cursor, limit);
+            return CursorPage.of(merge(active, archived, size + 1), size, TaskResponse::getId);
+        });
+    }
+
+    // The first "limit" tasks of two lists sorted by id (a task is never in both tables)
+    private static List<TaskResponse> merge(List<TaskResponse> a, List<TaskResponse> b, int limit) {
+        List<TaskResponse> merged = new ArrayList<>(Math.min(limit, a.size() + b.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            if (j == b.size() || (i < a.size() && a.get(i).getId() < b.get(j).getId())) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanagement.cache;
+
+// Tells the other instances that a task changed, so they drop their local copies of it.
+// completed/pending say which filtered page regions the task was (or is now) part of.
+public record CacheInvalidation(String origin, long taskId, boolean completed, boolean pending) {
+
+    // Compact text form for transports that send bytes
+    public String encode() {
+        return origin + " " + taskId + " " + (completed ? 1 : 0) + " " + (pending ? 1 : 0);
+    }
+
+    public static CacheInvalidation decode(String message) {
+        String[] parts = message.split(" ");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed invalidation: " + message);
+        }
+        return new CacheInvalidation(parts[0], Long.parseLong(parts[1]), "1".equals(parts[2]), "1".equals(parts[3]));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanagement.cache;
+
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.config.TaskCacheProperties;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.store.TaskColumnStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+// Keeps the caches of several instances coherent. Every committed change made here is broadcast
+// over the InvalidationTransport; every change made elsewhere evicts the task from this
+// instance's taskById cache and the pages that contain it (and refreshes it in the column store).
+@Component
+public class CacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final String nodeId;
+    private final InvalidationTransport transport;
+    private final Cache taskById;
+    private final TaskPageCache taskPageCache;
+    private final TaskColumnStore taskColumnStore;
+
+    private final Counter sent;
+    private final Counter received;
+
+    public CacheInvalidator(TaskCacheProperties properties, InvalidationTransport transport, CacheManager cacheManager,
+                            TaskPageCache taskPageCache, TaskColumnStore taskColumnStore, MeterRegistry meterRegistry) {
+        this.nodeId = properties.getNodeId().isBlank() ? UUID.randomUUID().toString() : properties.getNodeId();
+        this.transport = transport;
+        this.taskById = localCache(cacheManager.getCache(CacheConfig.TASK_BY_ID));
+        this.taskPageCache = taskPageCache;
+        this.taskColumnStore = taskColumnStore;
+        this.sent = invalidationCounter(meterRegistry, "sent");
+        this.received = invalidationCounter(meterRegistry, "received");
+        transport.subscribe(this::onRemoteChange);
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        transport.publish(new CacheInvalidation(nodeId, event.getTaskId(),
+                event.touchesStatus(true), event.touchesStatus(false)));
+        sent.increment();
+    }
+
+    private void onRemoteChange(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        log.debug("Task {} changed on {}, evicting local copies", invalidation.taskId(), invalidation.origin());
+        if (taskById instanceof TwoLevelCache twoLevel) {
+            twoLevel.evictLocal(invalidation.taskId());
+        } else {
+            taskById.evict(invalidation.taskId());
+        }
+        taskPageCache.invalidate(invalidation.taskId(), invalidation.completed(), invalidation.pending());
+        // The column store holds data rather than a cache of it, so it re-reads the task
+        taskColumnStore.refresh(invalidation.taskId());
+        received.increment();
+    }
+
+    // Remote changes are already committed, so skip the transaction-aware wrapper and evict right away
+    private static Cache localCache(Cache cache) {
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("tasks.cache.invalidations")
+                .description("Cache invalidations exchanged with other instances")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanagement.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Connects every application context in the same JVM, so several "nodes" can be started side by
+// side (sharing the in-memory database) to check cache coherence without any external service.
+public class InProcessInvalidationTransport implements InvalidationTransport {
+
+    private static final List<Consumer<CacheInvalidation>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<CacheInvalidation>> ownListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : LISTENERS) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        ownListeners.add(listener);
+        LISTENERS.add(listener);
+    }
+
+    @Override
+    public void close() {
+        LISTENERS.removeAll(ownListeners);
+        ownListeners.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.taskmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Shared level kept in a JVM-wide map - every application context in this JVM sees the same
+// entries. Stands in for an external cache server when several nodes are run in one process.
+public class InProcessSharedCache implements SharedCache {
+
+    private static final Map<String, Cache<Object, Object>> CACHES = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        return cache(cacheName).getIfPresent(key);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        cache(cacheName).put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        cache(cacheName).invalidate(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        cache(cacheName).invalidateAll();
+    }
+
+    private static Cache<Object, Object> cache(String cacheName) {
+        return CACHES.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build());
+    }
+}
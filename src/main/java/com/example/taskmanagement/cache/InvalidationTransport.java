@@ -0,0 +1,28 @@
+package com.example.taskmanagement.cache;
+
+import java.util.function.Consumer;
+
+// Carries cache invalidations between app instances. Delivery is best effort: a lost message
+// leaves a stale entry on one node until it expires, it never affects what is in the database.
+public interface InvalidationTransport extends AutoCloseable {
+
+    // Send to every other instance (implementations may also deliver it back to this one)
+    void publish(CacheInvalidation invalidation);
+
+    // Called for every message that arrives
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    @Override
+    default void close() {}
+
+    // Single instance: nothing to tell anyone
+    static InvalidationTransport none() {
+        return new InvalidationTransport() {
+            @Override
+            public void publish(CacheInvalidation invalidation) {}
+
+            @Override
+            public void subscribe(Consumer<CacheInvalidation> listener) {}
+        };
+    }
+}
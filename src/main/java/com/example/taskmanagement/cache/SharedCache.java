@@ -0,0 +1,15 @@
+package com.example.taskmanagement.cache;
+
+// Second cache level shared by all instances (see TwoLevelCache). Values are cache store values,
+// i.e. what the Spring cache abstraction stores, including NullValue for "not found".
+public interface SharedCache {
+
+    Object get(String cacheName, Object key);
+
+    // Only committed writes are stored here, never loaded values (see TwoLevelCache)
+    void put(String cacheName, Object key, Object value);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
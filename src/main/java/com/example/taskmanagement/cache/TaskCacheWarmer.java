@@ -0,0 +1,67 @@
+package com.example.taskmanagement.cache;
+
+import com.example.taskmanagement.config.TaskCacheProperties;
+import com.example.taskmanagement.config.TaskStoreProperties;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Fills the caches before the instance takes traffic, so the first requests after a (re)start are
+// served from memory instead of all missing at once. Runs as an ApplicationRunner: Spring Boot
+// reports the readiness probe (/actuator/health/readiness) as ACCEPTING_TRAFFIC only after every
+// runner has returned.
+//
+// Hot tasks are taken to be the newest ones; the first page of each task list is loaded too.
+// Nothing to do when the column store is enabled - it already holds every task and bypasses these caches.
+@Component
+public class TaskCacheWarmer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCacheWarmer.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final TaskCacheProperties properties;
+    private final TaskStoreProperties storeProperties;
+    private final int defaultPageSize;
+
+    public TaskCacheWarmer(TaskRepository taskRepository, TaskService taskService,
+                           TaskCacheProperties properties, TaskStoreProperties storeProperties,
+                           @Value("${tasks.page.default-size:50}") int defaultPageSize) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.properties = properties;
+        this.storeProperties = storeProperties;
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.getWarmUpTasks() <= 0 || storeProperties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+
+        // Through getTaskById rather than putting rows read up front: its sync load runs inside the
+        // cache entry, so a task deleted or archived meanwhile is never put back into the cache
+        List<Long> hot = taskRepository.findNewestIds(Limit.of(properties.getWarmUpTasks()));
+        for (Long id : hot) {
+            taskService.getTaskById(id);
+        }
+
+        // First page of each list, as requested without a cursor or size
+        taskService.getAllTasks(0L, defaultPageSize);
+        taskService.getCompletedTasks(0L, defaultPageSize);
+        taskService.getPendingTasks(0L, defaultPageSize);
+
+        log.info("Cache warm-up loaded {} tasks and the first task pages in {} ms",
+                hot.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.taskmanagement.cache;
+
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.dto.TaskResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Caches keyset pages of tasks and invalidates them with id-range tags.
+//
+// A page fetched with (cursor, size) holds the first "size" matching tasks with id > cursor,
+// so it covers the id window (cursor, nextCursor] - or (cursor, infinity) for the last page.
+// A change to task X can only alter pages whose window contains X, so a write evicts just those
+// pages and every other cached page keeps serving hits.
+@Component
+public class TaskPageCache {
+
+    private final Map<String, Region> regions = new HashMap<>();
+
+    public TaskPageCache(CacheManager cacheManager) {
+        for (String name : new String[] {CacheConfig.ALL_TASKS, CacheConfig.COMPLETED_TASKS,
+                CacheConfig.PENDING_TASKS}) {
+            regions.put(name, new Region(nativeCache(cacheManager.getCache(name))));
+        }
+    }
+
+    // Return the cached page or load it. query is the normalized filter (null when there is none).
+    public CursorPage<TaskResponse> get(String region, String query, Long cursor, int size,
+                                Supplier<CursorPage<TaskResponse>> loader) {
+        Region r = regions.get(region);
+        PageKey key = new PageKey(query, cursor, size);
+
+        Object cached = r.pages.getIfPresent(key);
+        if (cached != null) {
+            return castPage(cached);
+        }
+
+        // Remember the generation before reading the database. If a write lands while we load,
+        // our page may already be stale, so we take it back out instead of serving it later.
+        long generation = r.generation.get();
+        CursorPage<TaskResponse> page = loader.get();
+        r.pages.put(key, page);
+        if (r.generation.get() != generation) {
+            r.pages.asMap().remove(key, page);
+        }
+        return page;
+    }
+
+    // Same as above for a non-blocking loader (the reactive API). Nothing happens until subscription.
+    public Mono<CursorPage<TaskResponse>> get(String region, String query, Long cursor, int size,
+                                              Mono<CursorPage<TaskResponse>> loader) {
+        return Mono.defer(() -> {
+            Region r = regions.get(region);
+            PageKey key = new PageKey(query, cursor, size);
+
+            Object cached = r.pages.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(castPage(cached));
+            }
+
+            long generation = r.generation.get();
+            return loader.doOnNext(page -> {
+                r.pages.put(key, page);
+                if (r.generation.get() != generation) {
+                    r.pages.asMap().remove(key, page);
+                }
+            });
+        });
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate(event.getTaskId(), event.touchesStatus(true), event.touchesStatus(false));
+    }
+
+    // Evict the pages a changed task belongs to - completed/pending say whether it was (or now is)
+    // in those regions. Also called for changes made on other instances (see CacheInvalidator).
+    public void invalidate(long taskId, boolean completed, boolean pending) {
+        invalidate(regions.get(CacheConfig.ALL_TASKS), taskId);
+        if (completed) {
+            invalidate(regions.get(CacheConfig.COMPLETED_TASKS), taskId);
+        }
+        if (pending) {
+            invalidate(regions.get(CacheConfig.PENDING_TASKS), taskId);
+        }
+    }
+
+    // Evict every page whose id window contains the changed task
+    private void invalidate(Region region, long taskId) {
+        region.generation.incrementAndGet();
+        region.pages.asMap().entrySet().removeIf(entry ->
+                covers((PageKey) entry.getKey(), castPage(entry.getValue()), taskId));
+    }
+
+    private static boolean covers(PageKey key, CursorPage<TaskResponse> page, long taskId) {
+        if (taskId <= key.cursor()) {
+            return false;
+        }
+        return !page.isHasMore() || taskId <= page.getNextCursor();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CursorPage<TaskResponse> castPage(Object value) {
+        return (CursorPage<TaskResponse>) value;
+    }
+
+    // Page invalidation needs to scan entries, so work on the underlying Caffeine cache.
+    // The regions are still declared and sized in CacheConfig like every other cache.
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return ((CaffeineCache) cache).getNativeCache();
+    }
+
+    private record PageKey(String query, long cursor, int size) {}
+
+    private static class Region {
+        private final com.github.benmanes.caffeine.cache.Cache<Object, Object> pages;
+        private final AtomicLong generation = new AtomicLong();
+
+        private Region(com.github.benmanes.caffeine.cache.Cache<Object, Object> pages) {
+            this.pages = pages;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.taskmanagement.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+// A local Caffeine cache (L1) in front of a cache shared by all instances (L2).
+//
+// Reads try L1, then L2, then the loader; writes and evictions go to both levels. When another
+// instance changes a task it updates L2 itself and broadcasts an invalidation, and this instance
+// only drops its L1 copy (evictLocal) - the next read picks the new value up from L2.
+//
+// Only write-through puts fill L2. A loaded value stays in L1: the load may have read the row just
+// before another instance deleted it, and written to L2 after that delete's evict it would be served
+// to every instance until it expired. In L1 it is dropped by the delete's invalidation instead.
+// putIfAbsent is a fill as well, so it isn't overridden and only touches L1.
+public class TwoLevelCache extends CaffeineCache {
+
+    private final SharedCache shared;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> local, SharedCache shared) {
+        super(name, local, true);
+        this.shared = shared;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value == null) {
+            value = shared.get(getName(), key);
+            if (value != null) {
+                getNativeCache().put(key, value);
+            }
+        }
+        return value;
+    }
+
+    // Used by @Cacheable(sync = true): the L2 lookup and the load both run inside the L1 entry,
+    // so concurrent callers on this instance share one load. The loaded value is not written to L2.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            Object value = shared.get(getName(), key);
+            if (value != null) {
+                return (T) fromStoreValue(value);
+            }
+            return valueLoader.call();
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        shared.put(getName(), key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        shared.evict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        shared.evict(getName(), key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        shared.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        shared.clear(getName());
+        return super.invalidate();
+    }
+
+    // Drop only this instance's copy (another instance already updated the shared level)
+    public void evictLocal(Object key) {
+        super.evict(key);
+    }
+}
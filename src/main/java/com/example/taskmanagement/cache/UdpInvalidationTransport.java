@@ -0,0 +1,83 @@
+package com.example.taskmanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Sends each invalidation as one UDP datagram to every configured peer. No broker to run, and a
+// message costs one small packet per peer; the cache TTLs cover the rare datagram that gets lost.
+public class UdpInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpInvalidationTransport.class);
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers = new ArrayList<>();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public UdpInvalidationTransport(int port, List<String> peers) throws SocketException {
+        for (String peer : peers) {
+            int colon = peer.lastIndexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("Cache peer must be host:port, got " + peer);
+            }
+            this.peers.add(new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1))));
+        }
+        this.socket = new DatagramSocket(port);
+        Thread receiver = new Thread(this::receive, "cache-invalidation-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        byte[] bytes = invalidation.encode().getBytes(StandardCharsets.UTF_8);
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(bytes, bytes.length, peer));
+            } catch (IOException e) {
+                log.warn("Could not send cache invalidation to {}: {}", peer, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[512];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                CacheInvalidation invalidation = CacheInvalidation.decode(
+                        new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8));
+                for (Consumer<CacheInvalidation> listener : listeners) {
+                    listener.accept(invalidation);
+                }
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Cache invalidation receive failed: {}", e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Ignoring bad cache invalidation from {}", packet.getSocketAddress(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.taskmanagement.client;
+
+import com.example.taskmanagement.config.UserDirectoryProperties;
+import com.example.taskmanagement.dto.UserInfo;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Non-blocking client for the external user directory.
+//
+// Lookups go through a Caffeine async loading cache:
+// - concurrent lookups of the same user share one in-flight request
+// - entries older than refreshAfter are reloaded in the background while the old value is
+//   still served, so hot users never wait on the remote service
+// - getUsers() loads all missing users with one batch request
+// Nothing here blocks the calling thread.
+@Component
+public class UserDirectoryClient {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDirectoryClient.class);
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final AsyncLoadingCache<Long, UserInfo> users;
+
+    public UserDirectoryClient(WebClient.Builder webClientBuilder, UserDirectoryProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.webClient = webClientBuilder.baseUrl(properties.getUrl()).build();
+        this.timeout = properties.getTimeout();
+        this.users = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .expireAfterWrite(properties.getExpireAfter())
+                .recordStats()
+                .buildAsync(new UserLoader());
+        // Same tag keys as the Spring-managed caches - Prometheus drops series of one metric whose label names differ
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users", "cache.manager", "userDirectoryClient", "name", "users");
+    }
+
+    // Look up one user. Falls back to UserInfo.unknown() if the directory fails or times out.
+    public Mono<UserInfo> getUser(Long userId) {
+        // suppressCancel: one caller going away must not cancel a lookup other callers share
+        return Mono.fromFuture(() -> users.get(userId), true)
+                .onErrorResume(error -> {
+                    log.warn("Failed to get user {}: {}", userId, error.getMessage());
+                    return Mono.just(UserInfo.unknown(userId));
+                });
+    }
+
+    // Same as getUser, for callers that prefer CompletableFuture
+    public CompletableFuture<UserInfo> getUserAsync(Long userId) {
+        return getUser(userId).toFuture();
+    }
+
+    // Look up many users with a single request for the ones that aren't cached yet.
+    // Every requested id is in the result - unknown users map to UserInfo.unknown().
+    public Mono<Map<Long, UserInfo>> getUsers(Collection<Long> userIds) {
+        Set<Long> ids = Set.copyOf(userIds);
+        return Mono.fromFuture(() -> users.getAll(ids), true)
+                .onErrorResume(error -> {
+                    log.warn("Failed to get {} users: {}", ids.size(), error.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .map(found -> {
+                    Map<Long, UserInfo> result = new LinkedHashMap<>(found);
+                    ids.forEach(id -> result.computeIfAbsent(id, UserInfo::unknown));
+                    return result;
+                });
+    }
+
+    // GET /users/{id}
+    private Mono<UserInfo> fetchUser(Long userId) {
+        return webClient.get()
+                .uri("/users/{id}", userId)
+                .retrieve()
+                .bodyToMono(UserInfo.class)
+                .timeout(timeout);
+    }
+
+    // GET /users?id=1&id=2&... - one request for the whole batch
+    private Mono<Map<Long, UserInfo>> fetchUsers(Set<? extends Long> userIds) {
+        List<String> ids = userIds.stream().map(String::valueOf).toList();
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/users").queryParam("id", ids).build())
+                .retrieve()
+                .bodyToFlux(UserInfo.class)
+                .timeout(timeout)
+                .collect(Collectors.toMap(UserInfo::getId, Function.identity(), (first, second) -> first));
+    }
+
+    // Bridges the cache to the WebClient calls. Failed loads aren't cached, so the next read retries.
+    private class UserLoader implements AsyncCacheLoader<Long, UserInfo> {
+
+        @Override
+        public CompletableFuture<? extends UserInfo> asyncLoad(Long userId, Executor executor) {
+            return fetchUser(userId).toFuture();
+        }
+
+        @Override
+        public CompletableFuture<? extends Map<? extends Long, ? extends UserInfo>> asyncLoadAll(
+                Set<? extends Long> userIds, Executor executor) {
+            return fetchUsers(userIds).toFuture();
+        }
+    }
+}
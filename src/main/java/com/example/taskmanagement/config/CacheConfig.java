@@ -1,33 +1,120 @@
 package com.example.taskmanagement.config;
 
+import com.example.taskmanagement.cache.InProcessInvalidationTransport;
+import com.example.taskmanagement.cache.InProcessSharedCache;
+import com.example.taskmanagement.cache.InvalidationTransport;
+import com.example.taskmanagement.cache.SharedCache;
+import com.example.taskmanagement.cache.TwoLevelCache;
+import com.example.taskmanagement.cache.UdpInvalidationTransport;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.SocketException;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 // Configuration class for caching setup
+// Every cache region is declared here with its own size and expiry
 @Configuration
 public class CacheConfig {
 
+    // Single tasks by id (including "not found" results)
+    public static final String TASK_BY_ID = "taskById";
+
+    // Pages of list and query results
+    public static final String ALL_TASKS = "allTasks";
+    public static final String COMPLETED_TASKS = "completedTasks";
+    public static final String PENDING_TASKS = "pendingTasks";
+
+    // How long a found task stays cached
+    private static final long TASK_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    // How long a "not found" lookup stays cached - short, so a miss never hides data for long
+    private static final long MISSING_TASK_TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
     // Configure Caffeine cache manager with custom settings
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-        // Configure cache properties
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                // Maximum number of entries in cache
-                .maximumSize(1000)
-                // Cache entries expire after 10 minutes of being written
+    public CacheManager cacheManager(TaskCacheProperties properties) {
+        SharedCache sharedCache = switch (properties.getSharedCache()) {
+            case NONE -> null;
+            case IN_PROCESS -> new InProcessSharedCache();
+        };
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            // With a shared cache configured, single tasks get a second level behind the local one
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if (sharedCache != null && TASK_BY_ID.equals(name)) {
+                    return new TwoLevelCache(name, cache, sharedCache);
+                }
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
+
+        // Only the regions registered below exist - a typo in a cache name fails fast
+        cacheManager.setCacheNames(List.of());
+
+        // Single tasks are updated in place on write, so they can live long and the region can be large
+        cacheManager.registerCustomCache(TASK_BY_ID, taskByIdRegion().build());
+
+        // Pages are invalidated precisely on write (see TaskPageCache), expiry is only a safety net.
+        // Each page holds up to tasks.page.max-size tasks, so keep fewer of them.
+        cacheManager.registerCustomCache(ALL_TASKS, pageRegion(500).build());
+        cacheManager.registerCustomCache(COMPLETED_TASKS, pageRegion(200).build());
+        cacheManager.registerCustomCache(PENDING_TASKS, pageRegion(200).build());
+
+        // Puts and evictions made inside a transaction are applied only after it commits,
+        // so a rolled back write never reaches the cache
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // How cache invalidations reach the other instances (see CacheInvalidator)
+    @Bean
+    public InvalidationTransport invalidationTransport(TaskCacheProperties properties) throws SocketException {
+        return switch (properties.getTransport()) {
+            case NONE -> InvalidationTransport.none();
+            case IN_PROCESS -> new InProcessInvalidationTransport();
+            case UDP -> new UdpInvalidationTransport(properties.getUdpPort(), properties.getUdpPeers());
+        };
+    }
+
+    // The region builders are shared with TaskRuntimeHints, which registers the classes Caffeine generates for them
+    static Caffeine<Object, Object> taskByIdRegion() {
+        return Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfter(new TaskByIdExpiry())
+                .recordStats();
+    }
+
+    static Caffeine<Object, Object> pageRegion(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
                 .expireAfterWrite(10, TimeUnit.MINUTES)
-                // Cache entries expire after 5 minutes of last access
-                .expireAfterAccess(5, TimeUnit.MINUTES)
-                // Enable cache statistics for monitoring
-                .recordStats());
-        
-        return cacheManager;
+                .recordStats();
+    }
+
+    // Found tasks and "not found" markers (NullValue) get different lifetimes
+    private static class TaskByIdExpiry implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return value instanceof NullValue ? MISSING_TASK_TTL_NANOS : TASK_TTL_NANOS;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
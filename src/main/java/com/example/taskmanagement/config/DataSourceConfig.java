@@ -0,0 +1,59 @@
+package com.example.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Option;
+import io.r2dbc.spi.TransactionDefinition;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+
+// JDBC and R2DBC side by side.
+//
+// The blocking API (JPA, Flyway, the outbox dispatcher) uses the Hikari DataSource, the /api/v2 endpoints
+// use the R2DBC ConnectionFactory (spring.r2dbc.*) - both point at the same H2 database.
+// Spring Boot stops auto-configuring the DataSource once a ConnectionFactory exists, so it is declared
+// here from the usual spring.datasource.* properties. The JPA transaction manager is primary, so plain
+// @Transactional keeps using it; reactive code goes through TransactionalOperator (R2DBC transactions).
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    // R2DBC transactions for TransactionalOperator. Spring passes the read-only flag as an option on
+    // every begin, even when it is false, and the H2 driver has no such option and logs a warning for
+    // each transaction - so the option is left out.
+    @Bean
+    public R2dbcTransactionManager connectionFactoryTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory) {
+            @Override
+            protected TransactionDefinition createTransactionDefinition(
+                    org.springframework.transaction.TransactionDefinition definition) {
+                TransactionDefinition options = super.createTransactionDefinition(definition);
+                return new TransactionDefinition() {
+                    @Override
+                    public <T> T getAttribute(Option<T> option) {
+                        return TransactionDefinition.READ_ONLY.equals(option) ? null : options.getAttribute(option);
+                    }
+                };
+            }
+        };
+    }
+}
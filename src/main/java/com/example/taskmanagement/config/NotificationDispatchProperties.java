@@ -0,0 +1,159 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings for the outbound notification pipeline (notification.dispatch.* in application.properties)
+@ConfigurationProperties(prefix = "notification.dispatch")
+public class NotificationDispatchProperties {
+
+    // Turn the background sender off (events still pile up in the outbox)
+    private boolean enabled = true;
+
+    // Endpoint on notification.service.url that accepts a batch of events
+    private String batchPath = "/posts";
+
+    // Max events held in memory waiting for a sender
+    private int queueCapacity = 1000;
+
+    // Number of batches in flight at the same time
+    private int concurrency = 4;
+
+    // Max events per POST
+    private int maxBatchSize = 50;
+
+    // How often the outbox is checked when nothing wakes the dispatcher up
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // Timeout for a single HTTP attempt
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    // Immediate retries of a failed POST (exponential backoff with jitter)
+    private int maxRetries = 3;
+    private Duration retryBackoff = Duration.ofMillis(200);
+    private Duration maxRetryBackoff = Duration.ofSeconds(5);
+
+    // Delivery attempts (each with its own retries) before an event is marked FAILED
+    private int maxAttempts = 10;
+
+    // How long a claimed event is hidden from other pollers while it is being sent
+    private Duration lease = Duration.ofMinutes(2);
+
+    // Consecutive failed batches that open the circuit, and how long it stays open
+    private int circuitFailureThreshold = 5;
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBatchPath() {
+        return batchPath;
+    }
+
+    public void setBatchPath(String batchPath) {
+        this.batchPath = batchPath;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getCircuitFailureThreshold() {
+        return circuitFailureThreshold;
+    }
+
+    public void setCircuitFailureThreshold(int circuitFailureThreshold) {
+        this.circuitFailureThreshold = circuitFailureThreshold;
+    }
+
+    public Duration getCircuitOpenDuration() {
+        return circuitOpenDuration;
+    }
+
+    public void setCircuitOpenDuration(Duration circuitOpenDuration) {
+        this.circuitOpenDuration = circuitOpenDuration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings for moving old completed tasks to the archive table (tasks.archive.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.archive")
+public class TaskArchiveProperties {
+
+    // Run the archiver. Archived tasks drop out of every read unless it asks for includeArchived.
+    private boolean enabled = false;
+
+    // Completed tasks are archived once they have been completed for this long
+    private Duration age = Duration.ofDays(30);
+
+    // Time between archiver runs; each run moves everything that is due, batch by batch
+    private Duration interval = Duration.ofHours(1);
+
+    // Tasks moved per transaction - the rows stay locked until it commits
+    private int batchSize = 1000;
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getAge() {
+        return age;
+    }
+
+    public void setAge(Duration age) {
+        this.age = age;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Settings for keeping the caches of several app instances coherent (tasks.cache.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.cache")
+public class TaskCacheProperties {
+
+    public enum Transport { NONE, IN_PROCESS, UDP }
+
+    public enum SharedCache { NONE, IN_PROCESS }
+
+    // Identifies this instance in invalidation messages. Empty means a random id per run.
+    private String nodeId = "";
+
+    // How invalidations reach the other instances: none (single instance), in-process (several
+    // application contexts in one JVM, for tests) or udp (datagrams to the peers listed below)
+    private Transport transport = Transport.NONE;
+
+    // UDP transport: port this instance listens on, and the host:port of every other instance
+    private int udpPort = 7600;
+    private List<String> udpPeers = new ArrayList<>();
+
+    // Optional second level behind the local taskById cache, shared by all instances
+    private SharedCache sharedCache = SharedCache.NONE;
+
+    // Newest tasks loaded into the taskById cache at startup, before readiness is reported; 0 turns
+    // the warm-up off
+    private int warmUpTasks = 1000;
+
+    // Getters and Setters
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public int getUdpPort() {
+        return udpPort;
+    }
+
+    public void setUdpPort(int udpPort) {
+        this.udpPort = udpPort;
+    }
+
+    public List<String> getUdpPeers() {
+        return udpPeers;
+    }
+
+    public void setUdpPeers(List<String> udpPeers) {
+        this.udpPeers = udpPeers;
+    }
+
+    public SharedCache getSharedCache() {
+        return sharedCache;
+    }
+
+    public void setSharedCache(SharedCache sharedCache) {
+        this.sharedCache = sharedCache;
+    }
+
+    public int getWarmUpTasks() {
+        return warmUpTasks;
+    }
+
+    public void setWarmUpTasks(int warmUpTasks) {
+        this.warmUpTasks = warmUpTasks;
+    }
+}
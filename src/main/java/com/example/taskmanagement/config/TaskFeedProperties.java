@@ -0,0 +1,45 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings for the task change feed behind /api/tasks/changes (tasks.feed.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.feed")
+public class TaskFeedProperties {
+
+    // How many recent changes are kept so reconnecting clients can resume where they left off
+    private int historySize = 10_000;
+
+    // Changes buffered per subscriber. A client that falls this far behind is disconnected
+    // and resumes from the history when it reconnects.
+    private int subscriberBuffer = 1000;
+
+    // Comment line sent on idle connections so proxies keep them open and dead clients are noticed
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Getters and Setters
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+    }
+
+    public int getSubscriberBuffer() {
+        return subscriberBuffer;
+    }
+
+    public void setSubscriberBuffer(int subscriberBuffer) {
+        this.subscriberBuffer = subscriberBuffer;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Settings for rate limiting and load shedding (tasks.rate-limit.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.rate-limit")
+public class TaskRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Header that identifies the client (e.g. an API key checked by the gateway). Empty, or a request
+    // without it, means the client is identified by its remote address.
+    private String clientHeader = "";
+
+    // Per-client buckets are dropped after this long without requests, and at most maxClients are kept
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+    private long maxClients = 100_000;
+
+    // Limited endpoint groups by name (the name is the "endpoint" tag on the metrics)
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    public static class Endpoint {
+
+        // Request paths in the group (Spring path patterns) and the methods it applies to (empty = all)
+        private List<String> patterns = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+
+        // Requests per second per client, and how many a client may send at once after being idle.
+        // rate 0 turns rate limiting off for the group.
+        private double rate;
+        private int burst = 1;
+
+        // Requests in flight for the whole group. The limit moves between min and max following
+        // latency, starting at initial. max 0 turns concurrency limiting off for the group.
+        private int initialConcurrency = 20;
+        private int minConcurrency = 2;
+        private int maxConcurrency;
+
+        // Getters and Setters
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public double getRate() {
+            return rate;
+        }
+
+        public void setRate(double rate) {
+            this.rate = rate;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getInitialConcurrency() {
+            return initialConcurrency;
+        }
+
+        public void setInitialConcurrency(int initialConcurrency) {
+            this.initialConcurrency = initialConcurrency;
+        }
+
+        public int getMinConcurrency() {
+            return minConcurrency;
+        }
+
+        public void setMinConcurrency(int minConcurrency) {
+            this.minConcurrency = minConcurrency;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    public void setClientHeader(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public Duration getClientIdleTimeout() {
+        return clientIdleTimeout;
+    }
+
+    public void setClientIdleTimeout(Duration clientIdleTimeout) {
+        this.clientIdleTimeout = clientIdleTimeout;
+    }
+
+    public long getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(long maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
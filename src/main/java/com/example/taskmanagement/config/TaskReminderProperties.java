@@ -0,0 +1,77 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings for due-date reminders (tasks.reminders.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.reminders")
+public class TaskReminderProperties {
+
+    // How long before the due date the reminder goes out
+    private Duration leadTime = Duration.ofMinutes(15);
+
+    // How often the reminder queue is checked for reminders that are due
+    private Duration tick = Duration.ofSeconds(1);
+
+    // Only reminders due within this window are held in memory; later ones are loaded as it moves on
+    private Duration horizon = Duration.ofHours(1);
+
+    // Upper bound on reminders held in memory (loading pauses while the queue is this full)
+    private int maxLoaded = 100_000;
+
+    // Reminders per database round trip and per notification
+    private int batchSize = 500;
+
+    // After a restart, reminders that fell due at most this long ago are still sent
+    private Duration catchUp = Duration.ofDays(1);
+
+    // Getters and Setters
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+
+    public void setLeadTime(Duration leadTime) {
+        this.leadTime = leadTime;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public Duration getHorizon() {
+        return horizon;
+    }
+
+    public void setHorizon(Duration horizon) {
+        this.horizon = horizon;
+    }
+
+    public int getMaxLoaded() {
+        return maxLoaded;
+    }
+
+    public void setMaxLoaded(int maxLoaded) {
+        this.maxLoaded = maxLoaded;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getCatchUp() {
+        return catchUp;
+    }
+
+    public void setCatchUp(Duration catchUp) {
+        this.catchUp = catchUp;
+    }
+}
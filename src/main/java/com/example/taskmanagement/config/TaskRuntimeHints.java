@@ -0,0 +1,112 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.dto.BulkItemResult;
+import com.example.taskmanagement.dto.BulkResponse;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.ImportReport;
+import com.example.taskmanagement.dto.TaskBulkUpdateRequest;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.dto.TaskImportRequest;
+import com.example.taskmanagement.dto.TaskQueryPage;
+import com.example.taskmanagement.dto.TaskQueryRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchHit;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+import com.example.taskmanagement.dto.UserInfo;
+import com.example.taskmanagement.model.ArchivedTask;
+import com.example.taskmanagement.model.NotificationOutboxEvent;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskRecord;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+
+// Reflection hints for the AOT and native builds (mvn -Paot, mvn -Pnative). Spring works most of them
+// out from the beans and controller signatures; these are the ones it can't see:
+// - DTOs that are (de)serialized outside a controller signature: the precomputed ObjectWriters,
+//   change-feed events, CSV/NDJSON import and export, WebClient responses
+// - the entities, whose fields Hibernate and Spring Data R2DBC read and write reflectively
+// - the classes Caffeine generates for each combination of cache features and loads by name
+public class TaskRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String CAFFEINE_PACKAGE = "com.github.benmanes.caffeine.cache";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                BulkItemResult.class, BulkResponse.class, CursorPage.class, ImportReport.class,
+                TaskBulkUpdateRequest.class, TaskChange.class, TaskCreateRequest.class, TaskImportRequest.class,
+                TaskQueryPage.class, TaskQueryRequest.class, TaskResponse.class, TaskSearchHit.class,
+                TaskSearchResults.class, TaskStatsResponse.class, TaskUpdateRequest.class, UserInfo.class);
+
+        for (Class<?> entity : List.of(Task.class, ArchivedTask.class, NotificationOutboxEvent.class, TaskRecord.class)) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        // One entry per cache shape in the application - sizes and durations don't matter, only which
+        // features are switched on. A new shape that isn't listed fails at startup of the native image.
+        registerCaffeine(hints.reflection(), CacheConfig.taskByIdRegion(), false, classLoader);
+        registerCaffeine(hints.reflection(), CacheConfig.pageRegion(1), false, classLoader);
+        // InProcessSharedCache
+        registerCaffeine(hints.reflection(), Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofMinutes(1)), false, classLoader);
+        // TaskQueryExecutor plans
+        registerCaffeine(hints.reflection(), Caffeine.newBuilder()
+                .maximumSize(1)
+                .recordStats(), false, classLoader);
+        // ClientRateLimiter buckets
+        registerCaffeine(hints.reflection(), Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(1))
+                .maximumSize(1), false, classLoader);
+        // UserDirectoryClient (async loading cache)
+        registerCaffeine(hints.reflection(), Caffeine.newBuilder()
+                .maximumSize(1)
+                .refreshAfterWrite(Duration.ofMinutes(1))
+                .expireAfterWrite(Duration.ofMinutes(2))
+                .recordStats(), true, classLoader);
+    }
+
+    // Caffeine names the cache and node classes after the builder's features and creates them through
+    // MethodHandles; the names are computed here the same way it does at runtime
+    private static void registerCaffeine(ReflectionHints reflection, Caffeine<?, ?> builder, boolean async,
+                                         ClassLoader classLoader) {
+        String cacheClass = (String) invoke("LocalCacheFactory", classLoader, new Class<?>[] {Caffeine.class}, builder);
+        String nodeClass = (String) invoke("NodeFactory", classLoader, new Class<?>[] {Caffeine.class, boolean.class}, builder, async);
+        registerGenerated(reflection, cacheClass, classLoader);
+        registerGenerated(reflection, nodeClass, classLoader);
+    }
+
+    private static Object invoke(String factory, ClassLoader classLoader, Class<?>[] parameterTypes, Object... args) {
+        Class<?> type = ClassUtils.resolveClassName(CAFFEINE_PACKAGE + "." + factory, classLoader);
+        Method getClassName = ReflectionUtils.findMethod(type, "getClassName", parameterTypes);
+        if (getClassName == null) {
+            throw new IllegalStateException("Caffeine's " + factory + ".getClassName is gone - update TaskRuntimeHints");
+        }
+        ReflectionUtils.makeAccessible(getClassName);
+        return ReflectionUtils.invokeMethod(getClassName, null, args);
+    }
+
+    // The generated class and its generated superclasses: constructors are looked up by signature,
+    // fields through VarHandles
+    private static void registerGenerated(ReflectionHints reflection, String simpleName, ClassLoader classLoader) {
+        Class<?> type = ClassUtils.resolveClassName(CAFFEINE_PACKAGE + "." + simpleName, classLoader);
+        while (type != null && CAFFEINE_PACKAGE.equals(type.getPackageName())) {
+            reflection.registerType(type, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            type = type.getSuperclass();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+// Settings for the task statistics behind /api/tasks/stats (tasks.stats.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.stats")
+public class TaskStatsProperties {
+
+    // How often the in-memory counters are checked against the database
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+
+    // Reconciliation is skipped while writes are landing (the counts it read may already be stale).
+    // After this many skips in a row it applies its counts anyway.
+    private int maxSkippedReconciles = 3;
+
+    // "Due within N days" buckets reported for pending tasks
+    private List<Integer> dueWithinDays = List.of(1, 7, 30);
+
+    // Getters and Setters
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    public void setReconcileInterval(Duration reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    public int getMaxSkippedReconciles() {
+        return maxSkippedReconciles;
+    }
+
+    public void setMaxSkippedReconciles(int maxSkippedReconciles) {
+        this.maxSkippedReconciles = maxSkippedReconciles;
+    }
+
+    public List<Integer> getDueWithinDays() {
+        return dueWithinDays;
+    }
+
+    public void setDueWithinDays(List<Integer> dueWithinDays) {
+        this.dueWithinDays = dueWithinDays;
+    }
+}
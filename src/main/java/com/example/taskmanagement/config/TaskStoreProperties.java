@@ -0,0 +1,44 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+// Settings for the in-memory column store of tasks (tasks.store.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.store")
+public class TaskStoreProperties {
+
+    // Serve by-id lookups, status pages and due-date queries from a compact in-memory copy of the
+    // tasks table instead of the database and the per-task caches
+    private boolean enabled = false;
+
+    // Slots allocated up front; the columns grow by half when full
+    private int initialCapacity = 1024;
+
+    // Titles and descriptions live outside the heap in direct buffers of this size
+    private DataSize textChunkSize = DataSize.ofMegabytes(16);
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    public DataSize getTextChunkSize() {
+        return textChunkSize;
+    }
+
+    public void setTextChunkSize(DataSize textChunkSize) {
+        this.textChunkSize = textChunkSize;
+    }
+}
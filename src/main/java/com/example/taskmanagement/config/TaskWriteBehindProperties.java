@@ -0,0 +1,68 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings for queued single-task writes (tasks.write-behind.* in application.properties)
+@ConfigurationProperties(prefix = "tasks.write-behind")
+public class TaskWriteBehindProperties {
+
+    // Queue unconditional PUT/PATCH/DELETE of one task and write them in the background
+    private boolean enabled = false;
+
+    // Number of queues, each written by its own thread. A task always goes to the same queue,
+    // so its writes are applied in the order they arrived.
+    private int stripes = 4;
+
+    // Longest a write waits in the queue before it is written. Writes to the same task within
+    // this window are merged into one UPDATE.
+    private Duration maxDelay = Duration.ofMillis(50);
+
+    // Max tasks written per transaction
+    private int maxBatchSize = 500;
+
+    // Max tasks with a queued write (shared by the stripes); writes to further tasks wait for room
+    private int maxPending = 10_000;
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings for the user directory client (user-directory.* in application.properties)
+@ConfigurationProperties(prefix = "user-directory")
+public class UserDirectoryProperties {
+
+    // Base URL of the user directory service
+    private String url = "https://jsonplaceholder.typicode.com";
+
+    // Timeout for a single lookup or batch lookup
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // Max users kept in memory
+    private long cacheSize = 10_000;
+
+    // Entries older than this are reloaded in the background on the next read (refresh-ahead)
+    private Duration refreshAfter = Duration.ofMinutes(5);
+
+    // Entries older than this are dropped and the next read waits for a fresh lookup
+    private Duration expireAfter = Duration.ofMinutes(30);
+
+    // Getters and Setters
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(long cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public Duration getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    public void setRefreshAfter(Duration refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+
+    public Duration getExpireAfter() {
+        return expireAfter;
+    }
+
+    public void setExpireAfter(Duration expireAfter) {
+        this.expireAfter = expireAfter;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// Lets every controller read and write CBOR and Smile bodies next to JSON (see WireFormats).
+// The converters go last so clients that accept anything still get JSON.
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final WireFormats wireFormats;
+
+    public WireFormatConfig(WireFormats wireFormats) {
+        this.wireFormats = wireFormats;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2CborHttpMessageConverter(wireFormats.mapper(MediaType.APPLICATION_CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(wireFormats.mapper(WireFormats.SMILE)));
+    }
+}
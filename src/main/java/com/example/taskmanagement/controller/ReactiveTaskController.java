@@ -0,0 +1,146 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+import com.example.taskmanagement.feed.TaskChangeFeed;
+import com.example.taskmanagement.service.ReactiveTaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking variant of TaskController (same operations except bulk, under /api/v2/tasks).
+// Handlers return Mono/Flux backed by R2DBC: the request thread is released while the database
+// works, and NDJSON streams are written as rows arrive, pulled at the pace the client reads them.
+@RestController
+@RequestMapping("/api/v2/tasks")
+public class ReactiveTaskController {
+
+    @Autowired
+    private ReactiveTaskService taskService;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    // Page size used when the client doesn't ask for one
+    @Value("${tasks.page.default-size:50}")
+    private int defaultPageSize;
+
+    // Upper bound on the page size a client can ask for
+    @Value("${tasks.page.max-size:500}")
+    private int maxPageSize;
+
+    // GET /api/v2/tasks?cursor=0&size=50 - Get one page of tasks
+    @GetMapping
+    public Mono<CursorPage<TaskResponse>> getAllTasks(@RequestParam(defaultValue = "0") Long cursor,
+                                                      @RequestParam(required = false) Integer size) {
+        return taskService.getAllTasks(cursor, pageSize(size));
+    }
+
+    // GET /api/v2/tasks with Accept: application/x-ndjson - Stream every task, one JSON object per line
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamAllTasks() {
+        return taskService.streamAllTasks();
+    }
+
+    // GET /api/v2/tasks/completed - Get a page of completed tasks
+    @GetMapping("/completed")
+    public Mono<CursorPage<TaskResponse>> getCompletedTasks(@RequestParam(defaultValue = "0") Long cursor,
+                                                            @RequestParam(required = false) Integer size) {
+        return taskService.getCompletedTasks(cursor, pageSize(size));
+    }
+
+    @GetMapping(value = "/completed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamCompletedTasks() {
+        return taskService.streamCompletedTasks();
+    }
+
+    // GET /api/v2/tasks/pending - Get a page of pending tasks
+    @GetMapping("/pending")
+    public Mono<CursorPage<TaskResponse>> getPendingTasks(@RequestParam(defaultValue = "0") Long cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        return taskService.getPendingTasks(cursor, pageSize(size));
+    }
+
+    @GetMapping(value = "/pending", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamPendingTasks() {
+        return taskService.streamPendingTasks();
+    }
+
+    // GET /api/v2/tasks/search?q=spring boot&page=0&size=20 - Full-text search over title and description
+    @GetMapping("/search")
+    public Mono<ResponseEntity<TaskSearchResults>> searchTasks(@RequestParam(required = false) String q,
+                                                               @RequestParam(required = false) String title,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(required = false) Integer size) {
+        String query = q != null ? q : title;
+        if (query == null || page < 0) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return taskService.searchTasks(query, page, pageSize(size)).map(ResponseEntity::ok);
+    }
+
+    // GET /api/v2/tasks/stats - Total, completed, pending and overdue counts plus tasks due soon
+    @GetMapping("/stats")
+    public Mono<TaskStatsResponse> getStats() {
+        return taskService.getStats();
+    }
+
+    // GET /api/v2/tasks/changes - Same change feed as /api/tasks/changes
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                       @RequestParam(required = false) String since) {
+        return taskChangeFeed.subscribe(since != null ? since : lastEventId);
+    }
+
+    // GET /api/v2/tasks/{id} - Get a specific task by ID (with the same ETag / If-None-Match handling as v1)
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(@PathVariable Long id) {
+        return taskService.getTaskById(id)
+                .map(this::withETag)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // POST /api/v2/tasks - Create a new task
+    @PostMapping
+    public Mono<TaskResponse> createTask(@Valid @RequestBody TaskCreateRequest request) {
+        return taskService.createTask(request);
+    }
+
+    // PUT /api/v2/tasks/{id} - Update the fields that are sent
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> updateTask(@PathVariable Long id,
+                                                         @Valid @RequestBody TaskUpdateRequest request) {
+        return taskService.updateTask(id, request)
+                .map(this::withETag)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // DELETE /api/v2/tasks/{id} - Delete a task
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id)
+                .map(deleted -> deleted ? ResponseEntity.ok().<Void>build() : ResponseEntity.notFound().<Void>build());
+    }
+
+    private ResponseEntity<TaskResponse> withETag(TaskResponse task) {
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
+    }
+
+    // Clamp the requested page size to [1, maxPageSize]
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+}
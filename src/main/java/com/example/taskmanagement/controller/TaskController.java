@@ -1,14 +1,56 @@
 package com.example.taskmanagement.controller;
 
+import com.example.taskmanagement.config.WireFormats;
+import com.example.taskmanagement.dto.BulkResponse;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.ImportReport;
+import com.example.taskmanagement.dto.TaskBulkUpdateRequest;
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.dto.TaskQueryPage;
+import com.example.taskmanagement.dto.TaskQueryRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+import com.example.taskmanagement.feed.TaskChangeFeed;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.query.TaskQuery;
+import com.example.taskmanagement.service.TaskBulkService;
 import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.transfer.TaskTransferCodec;
+import com.example.taskmanagement.transfer.TaskTransferFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 // This tells Spring this class handles REST API requests
 @RestController
@@ -19,37 +61,161 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
-    // GET /api/tasks - Get all tasks
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private TaskTransferCodec taskTransferCodec;
+
+    // Writes one task per line without closing the response stream after each value
+    private final ObjectWriter ndjsonWriter;
+
+    // Writers for list responses, built once per wire format for their exact type so a request
+    // doesn't go through message converter selection and serializer lookup
+    private final WireFormats wireFormats;
+    private final Map<MediaType, ObjectWriter> pageWriters = new HashMap<>();
+    private final Map<MediaType, ObjectWriter> searchWriters = new HashMap<>();
+
+    // Page size used when the client doesn't ask for one
+    @Value("${tasks.page.default-size:50}")
+    private int defaultPageSize;
+
+    // Upper bound on the page size a client can ask for
+    @Value("${tasks.page.max-size:500}")
+    private int maxPageSize;
+
+    // Upper bound on the number of items in one bulk request
+    @Value("${tasks.bulk.max-items:10000}")
+    private int maxBulkItems;
+
+    public TaskController(ObjectMapper objectMapper, WireFormats wireFormats) {
+        this.ndjsonWriter = objectMapper.writerFor(TaskResponse.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.wireFormats = wireFormats;
+        wireFormats.getMappers().forEach((format, mapper) -> {
+            pageWriters.put(format, mapper.writerFor(new TypeReference<CursorPage<TaskResponse>>() {})
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+            searchWriters.put(format, mapper.writerFor(TaskSearchResults.class)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+        });
+    }
+
+    // GET /api/tasks?cursor=0&size=50 - Get one page of tasks (&includeArchived=true adds archived ones)
     @GetMapping
-    public List<Task> getAllTasks() {
-        return taskService.getAllTasks();
+    public void getAllTasks(@RequestParam(defaultValue = "0") Long cursor,
+                            @RequestParam(required = false) Integer size,
+                            @RequestParam(defaultValue = "false") boolean includeArchived,
+                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                            HttpServletResponse response) throws IOException {
+        write(response, accept, pageWriters, taskService.getAllTasks(cursor, pageSize(size), includeArchived));
+    }
+
+    // GET /api/tasks with "Accept: application/x-ndjson" - Stream every task, one JSON object per line
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        return ndjson(taskService::streamAllTasks);
     }
 
-    // GET /api/tasks/completed - Get completed tasks
+    // GET /api/tasks/completed - Get a page of completed tasks (&includeArchived=true adds archived ones)
     @GetMapping("/completed")
-    public List<Task> getCompletedTasks() {
-        return taskService.getCompletedTasks();
+    public void getCompletedTasks(@RequestParam(defaultValue = "0") Long cursor,
+                                  @RequestParam(required = false) Integer size,
+                                  @RequestParam(defaultValue = "false") boolean includeArchived,
+                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                  HttpServletResponse response) throws IOException {
+        write(response, accept, pageWriters, taskService.getCompletedTasks(cursor, pageSize(size), includeArchived));
     }
 
-    // GET /api/tasks/pending - Get pending tasks
+    // GET /api/tasks/completed as NDJSON - Stream completed tasks
+    @GetMapping(value = "/completed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCompletedTasks() {
+        return ndjson(taskService::streamCompletedTasks);
+    }
+
+    // GET /api/tasks/pending - Get a page of pending tasks
     @GetMapping("/pending")
-    public List<Task> getPendingTasks() {
-        return taskService.getPendingTasks();
+    public void getPendingTasks(@RequestParam(defaultValue = "0") Long cursor,
+                                @RequestParam(required = false) Integer size,
+                                @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                HttpServletResponse response) throws IOException {
+        write(response, accept, pageWriters, taskService.getPendingTasks(cursor, pageSize(size)));
     }
 
-    // GET /api/tasks/search?title=something - Search tasks by title
+    // GET /api/tasks/pending as NDJSON - Stream pending tasks
+    @GetMapping(value = "/pending", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPendingTasks() {
+        return ndjson(taskService::streamPendingTasks);
+    }
+
+    // GET /api/tasks/due?from=2025-01-01T00:00:00&to=2025-01-08T00:00:00&cursor=0&size=50 - A page of
+    // pending tasks due in [from, to); leave out "from" to include everything overdue
+    @GetMapping("/due")
+    public ResponseEntity<CursorPage<TaskResponse>> getTasksDue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") Long cursor,
+            @RequestParam(required = false) Integer size) {
+        if (to == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskService.getPendingTasksDueBetween(from, to, cursor, pageSize(size)));
+    }
+
+    // GET /api/tasks/query?completed=false&dueFrom=...&dueTo=...&createdFrom=...&createdTo=...&overdue=true
+    //     &text=report&sort=dueDate&fields=id,title&cursor=&size=50
+    // Tasks matching every filter that is given, in the requested order, with only the requested fields
+    @GetMapping("/query")
+    public TaskQueryPage queryTasks(TaskQueryRequest request) {
+        return taskService.queryTasks(TaskQuery.of(request, pageSize(request.getSize())));
+    }
+
+    // GET /api/tasks/search?q=spring boot&page=0&size=20 - Full-text search over title and description.
+    // "title" is still accepted as the parameter name for older clients.
     @GetMapping("/search")
-    public List<Task> searchTasks(@RequestParam String title) {
-        return taskService.searchTasksByTitle(title);
+    public void searchTasks(@RequestParam(required = false) String q,
+                            @RequestParam(required = false) String title,
+                            @RequestParam(defaultValue = "0") int page,
+                            @RequestParam(required = false) Integer size,
+                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                            HttpServletResponse response) throws IOException {
+        String query = q != null ? q : title;
+        if (query == null || page < 0) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        write(response, accept, searchWriters, taskService.searchTasks(query, page, pageSize(size)));
     }
 
-    // GET /api/tasks/{id} - Get a specific task by ID
+    // GET /api/tasks/stats - Total, completed, pending and overdue counts plus tasks due soon
+    @GetMapping("/stats")
+    public TaskStatsResponse getStats() {
+        return taskService.getStats();
+    }
+
+    // GET /api/tasks/changes - Server-sent events for every committed create/update/delete/archive/restore.
+    // Reconnecting clients send Last-Event-ID (EventSource does this itself) or ?since= to resume.
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                       @RequestParam(required = false) String since) {
+        return taskChangeFeed.subscribe(since != null ? since : lastEventId);
+    }
+
+    // GET /api/tasks/{id} - Get a specific task by ID.
+    // The response carries the task's version as a strong ETag. A client that sends it back in
+    // If-None-Match gets 304 Not Modified with no body - and a cache hit means no database query either.
+    // With includeArchived=true a task that isn't active is looked up in the archive.
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
-        Optional<Task> task = taskService.getTaskById(id);
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id,
+                                                    @RequestParam(defaultValue = "false") boolean includeArchived) {
+        Optional<TaskResponse> task = taskService.getTaskById(id);
+        if (task.isEmpty() && includeArchived) {
+            task = taskService.getArchivedTask(id);
+        }
         
         if (task.isPresent()) {
-            return ResponseEntity.ok(task.get());
+            return ResponseEntity.ok().eTag(TaskETags.of(task.get())).body(task.get());
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -57,29 +223,211 @@ public class TaskController {
 
     // POST /api/tasks - Create a new task
     @PostMapping
-    public Task createTask(@Valid @RequestBody Task task) {
+    public TaskResponse createTask(@Valid @RequestBody Task task) {
         return taskService.createTask(task);
     }
 
-    // PUT /api/tasks/{id} - Update an existing task
+    // PUT /api/tasks/{id} - Update an existing task.
+    // With If-Match the update only happens if the task is still at that version, otherwise 412.
+    // With write-behind enabled, unconditional updates are queued (see queued below).
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @Valid @RequestBody Task taskDetails) {
-        Optional<Task> updatedTask = taskService.updateTask(id, taskDetails);
-        
-        if (updatedTask.isPresent()) {
-            return ResponseEntity.ok(updatedTask.get());
-        } else {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody Task taskDetails,
+                                                   @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                   @RequestHeader(value = "Prefer", required = false) String prefer) {
+        List<Long> expectedVersions = TaskETags.parseIfMatch(ifMatch);
+        if (taskService.isWriteBehindEnabled()) {
+            if (expectedVersions == null) {
+                return queued(taskService.queueUpdate(id, taskDetails), prefer);
+            }
+            taskService.flushQueuedWrites(id);
         }
+        return withETag(taskService.updateTask(id, taskDetails, expectedVersions));
     }
 
-    // DELETE /api/tasks/{id} - Delete a task
+    // PATCH /api/tasks/{id} - Change only the fields that are sent (same If-Match rules as PUT)
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> patchTask(@PathVariable Long id, @Valid @RequestBody TaskUpdateRequest request,
+                                                  @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                  @RequestHeader(value = "Prefer", required = false) String prefer) {
+        List<Long> expectedVersions = TaskETags.parseIfMatch(ifMatch);
+        if (taskService.isWriteBehindEnabled()) {
+            if (expectedVersions == null) {
+                return queued(taskService.queuePatch(id, request), prefer);
+            }
+            taskService.flushQueuedWrites(id);
+        }
+        return withETag(taskService.patchTask(id, request, expectedVersions));
+    }
+
+    // DELETE /api/tasks/{id} - Delete a task (same If-Match and write-behind rules as PUT)
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        if (taskService.deleteTask(id)) {
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                           @RequestHeader(value = "Prefer", required = false) String prefer) {
+        List<Long> expectedVersions = TaskETags.parseIfMatch(ifMatch);
+        if (taskService.isWriteBehindEnabled()) {
+            if (expectedVersions == null) {
+                CompletableFuture<Optional<TaskResponse>> committed = taskService.queueDelete(id);
+                if (respondAsync(prefer)) {
+                    return accepted();
+                }
+                return awaitCommit(committed).isPresent() ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+            }
+            taskService.flushQueuedWrites(id);
+        }
+        if (taskService.deleteTask(id, expectedVersions)) {
             return ResponseEntity.ok().build();
         } else {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    // POST /api/tasks/{id}/restore - Move an archived task back to the active tasks (404 if it isn't archived)
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<TaskResponse> restoreTask(@PathVariable Long id) {
+        return withETag(taskService.restoreTask(id));
+    }
+
+    // POST /api/tasks/bulk - Create many tasks, with a result per item
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResponse> createTasks(@RequestBody List<TaskCreateRequest> requests) {
+        if (requests.size() > maxBulkItems) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(taskBulkService.createTasks(requests));
+    }
+
+    // PATCH /api/tasks/bulk - Update many tasks (each item carries its id and the fields to change)
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkResponse> updateTasks(@RequestBody List<TaskBulkUpdateRequest> requests) {
+        if (requests.size() > maxBulkItems) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(taskBulkService.updateTasks(requests));
+    }
+
+    // DELETE /api/tasks/bulk - Delete many tasks by id
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkResponse> deleteTasks(@RequestBody List<Long> ids) {
+        if (ids.size() > maxBulkItems) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(taskBulkService.deleteTasks(ids));
+    }
+
+    // POST /api/tasks/import - Create tasks from a file: CSV with a header row (Content-Type: text/csv)
+    // or NDJSON (application/x-ndjson). The body is read and written in chunks as it arrives, however
+    // large it is; the report counts every row and lists the ones that were not imported.
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ImportReport importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                    HttpServletRequest request) throws IOException {
+        TaskTransferFormat format = TaskTransferFormat.of(contentType);
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return taskBulkService.importTasks(taskTransferCodec.read(format, request.getInputStream(), charset));
+    }
+
+    // GET /api/tasks/export?format=csv&completed=false - Every task (or only completed/pending ones)
+    // as a CSV or NDJSON file, streamed straight from a database cursor
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(required = false) Boolean completed) {
+        TaskTransferFormat fileFormat = TaskTransferFormat.of(format);
+        if (fileFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        Consumer<Consumer<TaskResponse>> source = completed == null ? taskService::streamAllTasks
+                : completed ? taskService::streamCompletedTasks : taskService::streamPendingTasks;
+        StreamingResponseBody body = out -> taskTransferCodec.write(fileFormat, out, source);
+        return ResponseEntity.ok()
+                .contentType(fileFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + fileFormat.getName()).build().toString())
+                .body(body);
+    }
+
+    // Clamp the requested page size to [1, maxPageSize]
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    // 200 with the task and its new ETag, or 404
+    private ResponseEntity<TaskResponse> withETag(Optional<TaskResponse> task) {
+        if (task.isPresent()) {
+            return ResponseEntity.ok().eTag(TaskETags.of(task.get())).body(task.get());
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // A queued write is acknowledged once it has committed - 200 with the task and its ETag, or 404.
+    // "Prefer: respond-async" asks for 202 Accepted as soon as it is queued instead; the change
+    // is then visible to reads within tasks.write-behind.max-delay.
+    private ResponseEntity<TaskResponse> queued(CompletableFuture<Optional<TaskResponse>> committed, String prefer) {
+        if (respondAsync(prefer)) {
+            return accepted();
+        }
+        return withETag(awaitCommit(committed));
+    }
+
+    private static boolean respondAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.split(";")[0].trim().equalsIgnoreCase("respond-async")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> accepted() {
+        return ResponseEntity.accepted().header("Preference-Applied", "respond-async").build();
+    }
+
+    // Wait for the commit; a failed write surfaces as its own exception
+    private static Optional<TaskResponse> awaitCommit(CompletableFuture<Optional<TaskResponse>> committed) {
+        try {
+            return committed.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Write the body in the format the client accepts (JSON unless it asks for CBOR or Smile)
+    // with one of the precomputed writers
+    private void write(HttpServletResponse response, String accept, Map<MediaType, ObjectWriter> writers,
+                       Object body) throws IOException {
+        MediaType format = wireFormats.negotiate(accept);
+        response.setContentType(format.toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        writers.get(format).writeValue(response.getOutputStream(), body);
+    }
+
+    // Build a streaming NDJSON response - rows are written as the database cursor yields them
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<TaskResponse>> source) {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            source.accept(task -> {
+                try {
+                    ndjsonWriter.writeValue(out, task);
+                    out.write('\n');
+                    // Flush regularly so clients see rows as they are produced
+                    if (++written[0] % 100 == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.dto.TaskResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Strong ETags for single tasks. The tag is the task's @Version, which changes on every committed
+// write, so it can be compared without looking at the body (or the database).
+public final class TaskETags {
+
+    private TaskETags() {}
+
+    public static String of(TaskResponse task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    // Versions named by an If-Match header, or null when the write is unconditional (no header or "*").
+    // If-Match uses strong comparison, so weak (W/) and unparseable tags never match anything.
+    public static List<Long> parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String tag : header.split(",")) {
+            tag = tag.trim();
+            if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException e) {
+                // not one of ours - cannot match
+            }
+        }
+        return versions;
+    }
+}
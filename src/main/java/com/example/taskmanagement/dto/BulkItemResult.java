@@ -0,0 +1,73 @@
+package com.example.taskmanagement.dto;
+
+import java.util.Map;
+
+// Outcome of a single item in a bulk request
+public class BulkItemResult {
+
+    public enum Status { CREATED, UPDATED, DELETED, NOT_FOUND, INVALID, FAILED }
+
+    // Position of the item in the request array
+    private int index;
+    private Long id;
+    private Status status;
+
+    // Field errors for INVALID items, or a "message" entry for FAILED items
+    private Map<String, String> errors;
+
+    // Default constructor
+    public BulkItemResult() {}
+
+    // Constructor with all fields
+    public BulkItemResult(int index, Long id, Status status, Map<String, String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public static BulkItemResult success(int index, Long id, Status status) {
+        return new BulkItemResult(index, id, status, null);
+    }
+
+    public static BulkItemResult failure(int index, Long id, Status status, Map<String, String> errors) {
+        return new BulkItemResult(index, id, status, errors);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.CREATED || status == Status.UPDATED || status == Status.DELETED;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
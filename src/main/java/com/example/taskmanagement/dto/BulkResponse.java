@@ -0,0 +1,57 @@
+package com.example.taskmanagement.dto;
+
+import java.util.List;
+
+// This class defines what is returned from a bulk create/update/delete request
+// results are in the same order as the items in the request
+public class BulkResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    // Default constructor
+    public BulkResponse() {}
+
+    // Build the summary counts from the per-item results
+    public BulkResponse(List<BulkItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanagement.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of results from a keyset (cursor) paginated query
+// Pass nextCursor back as the "cursor" parameter to fetch the following page
+public class CursorPage<T> {
+
+    private List<T> items;
+    private Long nextCursor;
+    private boolean hasMore;
+
+    // Default constructor
+    public CursorPage() {}
+
+    // Constructor with all fields
+    public CursorPage(List<T> items, Long nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Build a page from rows fetched with limit size + 1 - the extra row only tells us there is more
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), idOf.apply(items.get(size - 1)), true);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.taskmanagement.dto;
+
+import java.util.List;
+
+// This class defines what is returned from an import: counts for the whole file, and the rows
+// that were not imported (the first "max-reported-errors" of them - the count covers all)
+public class ImportReport {
+
+    private int total;
+    private int imported;
+    private int failed;
+    private List<BulkItemResult> errors;
+    private boolean errorsTruncated;
+
+    // Default constructor
+    public ImportReport() {}
+
+    // Constructor with all fields
+    public ImportReport(int total, int imported, int failed, List<BulkItemResult> errors, boolean errorsTruncated) {
+        this.total = total;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BulkItemResult> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+// One entry of a bulk update - the id of the task plus the fields to change
+public class TaskBulkUpdateRequest extends TaskUpdateRequest {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    // Default constructor
+    public TaskBulkUpdateRequest() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
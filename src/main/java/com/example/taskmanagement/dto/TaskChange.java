@@ -0,0 +1,74 @@
+package com.example.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+
+// One entry of the task change feed (/api/tasks/changes)
+public class TaskChange {
+
+    // Position in the feed - increases by one per change
+    private long sequence;
+
+    // CREATED, UPDATED, DELETED, ARCHIVED or RESTORED
+    private String type;
+
+    private Long taskId;
+
+    // The task after the change (null for DELETED and ARCHIVED)
+    private TaskResponse task;
+
+    // When the change was committed
+    private LocalDateTime changedAt;
+
+    // Default constructor
+    public TaskChange() {}
+
+    // Constructor with all fields
+    public TaskChange(long sequence, String type, Long taskId, TaskResponse task, LocalDateTime changedAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.taskId = taskId;
+        this.task = task;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
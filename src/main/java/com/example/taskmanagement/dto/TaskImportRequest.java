@@ -0,0 +1,35 @@
+package com.example.taskmanagement.dto;
+
+import jakarta.validation.constraints.PastOrPresent;
+import java.time.LocalDateTime;
+
+// One row of an import file - the create fields plus the state an export carries, so a backup
+// comes back completed/pending and with its original creation time. Left out, they default to
+// "now" and pending like any new task.
+public class TaskImportRequest extends TaskCreateRequest {
+
+    @PastOrPresent(message = "Created date cannot be in the future")
+    private LocalDateTime createdAt;
+
+    private Boolean isCompleted;
+
+    // Default constructor
+    public TaskImportRequest() {}
+
+    // Getters and Setters
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    public void setIsCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.taskmanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of GET /api/tasks/query. Each item holds the requested fields only.
+// Pass nextCursor back as the "cursor" parameter (with the same filters and sort) for the next page.
+public class TaskQueryPage {
+
+    private List<Map<String, Object>> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Default constructor
+    public TaskQueryPage() {}
+
+    // Constructor with all fields
+    public TaskQueryPage(List<Map<String, Object>> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Map<String, Object>> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
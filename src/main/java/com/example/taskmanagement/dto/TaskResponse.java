@@ -12,18 +12,22 @@ public class TaskResponse {
     private LocalDateTime dueDate;
     private Boolean isCompleted;
 
+    // Changes with every update - the ETag of the task
+    private Long version;
+
     // Default constructor
     public TaskResponse() {}
 
     // Constructor with all fields
     public TaskResponse(Long id, String title, String description, 
-                       LocalDateTime createdAt, LocalDateTime dueDate, Boolean isCompleted) {
+                       LocalDateTime createdAt, LocalDateTime dueDate, Boolean isCompleted, Long version) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.createdAt = createdAt;
         this.dueDate = dueDate;
         this.isCompleted = isCompleted;
+        this.version = version;
     }
 
     // Getters and Setters
@@ -74,4 +78,12 @@ public class TaskResponse {
     public void setIsCompleted(Boolean isCompleted) {
         this.isCompleted = isCompleted;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
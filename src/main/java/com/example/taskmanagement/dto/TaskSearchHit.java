@@ -0,0 +1,48 @@
+package com.example.taskmanagement.dto;
+
+import java.util.Map;
+
+// One search result: the task, its relevance score and highlighted snippets
+public class TaskSearchHit {
+
+    private TaskResponse task;
+    private float score;
+
+    // Field name (title/description) -> HTML-escaped text with the matches wrapped in <b></b>
+    private Map<String, String> highlights;
+
+    // Default constructor
+    public TaskSearchHit() {}
+
+    // Constructor with all fields
+    public TaskSearchHit(TaskResponse task, float score, Map<String, String> highlights) {
+        this.task = task;
+        this.score = score;
+        this.highlights = highlights;
+    }
+
+    // Getters and Setters
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public Map<String, String> getHighlights() {
+        return highlights;
+    }
+
+    public void setHighlights(Map<String, String> highlights) {
+        this.highlights = highlights;
+    }
+}
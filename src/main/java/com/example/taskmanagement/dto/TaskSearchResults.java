@@ -0,0 +1,66 @@
+package com.example.taskmanagement.dto;
+
+import java.util.List;
+
+// This class defines what is returned from a full-text search: one page of hits, best first
+public class TaskSearchResults {
+
+    private String query;
+    private long total;
+    private int page;
+    private int size;
+    private List<TaskSearchHit> hits;
+
+    // Default constructor
+    public TaskSearchResults() {}
+
+    // Constructor with all fields
+    public TaskSearchResults(String query, long total, int page, int size, List<TaskSearchHit> hits) {
+        this.query = query;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.hits = hits;
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<TaskSearchHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<TaskSearchHit> hits) {
+        this.hits = hits;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// This class defines what is returned from /api/tasks/stats
+public class TaskStatsResponse {
+
+    private long total;
+    private long completed;
+    private long pending;
+
+    // Pending tasks whose due date has passed
+    private long overdue;
+
+    // Pending tasks due in the next N days, keyed by N (e.g. "7" -> tasks due within a week)
+    private Map<String, Long> dueWithinDays;
+
+    // When the counters were last checked against the database
+    private LocalDateTime reconciledAt;
+
+    // Default constructor
+    public TaskStatsResponse() {}
+
+    // Constructor with all fields
+    public TaskStatsResponse(long total, long completed, long pending, long overdue,
+                             Map<String, Long> dueWithinDays, LocalDateTime reconciledAt) {
+        this.total = total;
+        this.completed = completed;
+        this.pending = pending;
+        this.overdue = overdue;
+        this.dueWithinDays = dueWithinDays;
+        this.reconciledAt = reconciledAt;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public Map<String, Long> getDueWithinDays() {
+        return dueWithinDays;
+    }
+
+    public void setDueWithinDays(Map<String, Long> dueWithinDays) {
+        this.dueWithinDays = dueWithinDays;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(LocalDateTime reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanagement.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+// This class defines the fields that can be changed on an existing task
+// Every field is optional - only the ones that are sent get updated
+public class TaskUpdateRequest {
+
+    @Size(min = 1, max = 100, message = "Title must be between 1 and 100 characters")
+    private String title;
+
+    @Size(max = 1000, message = "Description cannot exceed 1000 characters")
+    private String description;
+
+    @Future(message = "Due date must be in the future")
+    private LocalDateTime dueDate;
+
+    private Boolean isCompleted;
+
+    // Default constructor
+    public TaskUpdateRequest() {}
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    public void setIsCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanagement.dto;
+
+// This class defines the user fields we read from the external user directory
+public class UserInfo {
+
+    private Long id;
+    private String name;
+    private String username;
+    private String email;
+
+    // Default constructor
+    public UserInfo() {}
+
+    // Constructor with all fields
+    public UserInfo(Long id, String name, String username, String email) {
+        this.id = id;
+        this.name = name;
+        this.username = username;
+        this.email = email;
+    }
+
+    // Placeholder returned when the directory can't be reached
+    public static UserInfo unknown(Long id) {
+        return new UserInfo(id, "Unknown User", null, null);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagement.event;
+
+import com.example.taskmanagement.dto.TaskResponse;
+
+// Published by TaskService whenever a task is created, updated or deleted, and by TaskArchiver when
+// a task is moved to or from the archive - for the active tasks that is the same as a delete or a
+// create, so listeners go by before/after rather than the type.
+// Listeners use @TransactionalEventListener so they only see changes that actually committed.
+public class TaskChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, ARCHIVED, RESTORED }
+
+    private final Type type;
+    private final Long taskId;
+
+    // State before the change (null for CREATED and RESTORED)
+    private final TaskResponse before;
+
+    // State after the change (null for DELETED and ARCHIVED)
+    private final TaskResponse after;
+
+    public TaskChangedEvent(Type type, Long taskId, TaskResponse before, TaskResponse after) {
+        this.type = type;
+        this.taskId = taskId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static TaskChangedEvent created(TaskResponse after) {
+        return new TaskChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskResponse before, TaskResponse after) {
+        return new TaskChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskResponse before) {
+        return new TaskChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+
+    public static TaskChangedEvent archived(TaskResponse before) {
+        return new TaskChangedEvent(Type.ARCHIVED, before.getId(), before, null);
+    }
+
+    public static TaskChangedEvent restored(TaskResponse after) {
+        return new TaskChangedEvent(Type.RESTORED, after.getId(), null, after);
+    }
+
+    // True if the task left the active tasks (deleted or archived)
+    public boolean isRemoval() {
+        return after == null;
+    }
+
+    // True if the task had the given completion status before or after the change
+    public boolean touchesStatus(boolean completed) {
+        return hasStatus(before, completed) || hasStatus(after, completed);
+    }
+
+    private static boolean hasStatus(TaskResponse task, boolean completed) {
+        return task != null && Boolean.valueOf(completed).equals(task.getIsCompleted());
+    }
+
+    // Getters
+    public Type getType() {
+        return type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TaskResponse getBefore() {
+        return before;
+    }
+
+    public TaskResponse getAfter() {
+        return after;
+    }
+}
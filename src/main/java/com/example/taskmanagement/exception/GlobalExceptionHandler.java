@@ -1,5 +1,7 @@
 package com.example.taskmanagement.exception;
 
+import com.example.taskmanagement.controller.TaskETags;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -33,6 +35,48 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    // Handle a conditional write (If-Match) against a task that has moved on - 412 with the current task and its ETag
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionMismatch(TaskVersionMismatchException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.PRECONDITION_FAILED.value());
+        errorResponse.put("error", "Precondition Failed");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("current", ex.getCurrent());
+        
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(TaskETags.of(ex.getCurrent()))
+                .body(errorResponse);
+    }
+
+    // Handle a write that lost a race with another write to the same task (version check failed at flush)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.CONFLICT.value());
+        errorResponse.put("error", "Conflict");
+        errorResponse.put("message", "The task was changed by another request, reload it and try again");
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // Handle query parameters that can't be turned into a query (unknown field, bad sort or cursor)
+    @ExceptionHandler(InvalidTaskQueryException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidQuery(InvalidTaskQueryException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("error", "Bad Request");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     // Handle general exceptions
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneralException(Exception ex) {
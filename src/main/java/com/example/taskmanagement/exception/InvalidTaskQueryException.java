@@ -0,0 +1,10 @@
+package com.example.taskmanagement.exception;
+
+// Thrown when the parameters of a task query can't be understood (unknown field, bad sort or cursor).
+// Answered with 400 and the message.
+public class InvalidTaskQueryException extends RuntimeException {
+
+    public InvalidTaskQueryException(String message) {
+        super(message);
+    }
+}
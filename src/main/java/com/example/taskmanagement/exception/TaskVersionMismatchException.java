@@ -0,0 +1,19 @@
+package com.example.taskmanagement.exception;
+
+import com.example.taskmanagement.dto.TaskResponse;
+
+// Thrown when a conditional write (If-Match) names a version the task is no longer at.
+// Carries the current state so the client can see what changed and retry.
+public class TaskVersionMismatchException extends RuntimeException {
+
+    private final TaskResponse current;
+
+    public TaskVersionMismatchException(TaskResponse current) {
+        super("Task " + current.getId() + " is at version " + current.getVersion());
+        this.current = current;
+    }
+
+    public TaskResponse getCurrent() {
+        return current;
+    }
+}
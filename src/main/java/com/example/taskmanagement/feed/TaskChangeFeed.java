@@ -0,0 +1,191 @@
+package com.example.taskmanagement.feed;
+
+import com.example.taskmanagement.config.TaskFeedProperties;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// In-process feed of committed task changes, served as server-sent events (/api/tasks/changes).
+//
+// Every change gets the next sequence number and is kept in a bounded history. Event ids are
+// "<epoch>-<sequence>", where the epoch identifies this run of the application, so a client that
+// reconnects with Last-Event-ID gets exactly the changes it missed - or a "reset" event telling it to
+// reload when the history no longer reaches back that far (or the server restarted in between).
+//
+// Each subscriber has its own bounded buffer. A client that can't keep up is disconnected once its
+// buffer is full instead of holding memory or slowing down writers; it resumes from the history.
+@Component
+public class TaskChangeFeed {
+
+    private final TaskFeedProperties properties;
+
+    // Sequence numbers start over with every run of the application
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // All guarded by "this"
+    private final ArrayDeque<TaskChange> history = new ArrayDeque<>();
+    private final Set<Sinks.Many<TaskChange>> subscribers = new HashSet<>();
+    private long lastSequence;
+
+    private final Counter overflows;
+
+    public TaskChangeFeed(TaskFeedProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("tasks.feed.subscribers", this, TaskChangeFeed::subscriberCount)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("tasks.feed.overflows")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        TaskChange change = new TaskChange(++lastSequence, event.getType().name(), event.getTaskId(),
+                event.getAfter(), LocalDateTime.now());
+        history.addLast(change);
+        if (history.size() > properties.getHistorySize()) {
+            history.removeFirst();
+        }
+
+        // Emitting only queues the change for each subscriber (its response is written elsewhere)
+        Iterator<Sinks.Many<TaskChange>> it = subscribers.iterator();
+        while (it.hasNext()) {
+            Sinks.Many<TaskChange> subscriber = it.next();
+            Sinks.EmitResult result = subscriber.tryEmitNext(change);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                // End the stream after what is already buffered; the client resumes from the history
+                subscriber.tryEmitComplete();
+                overflows.increment();
+                it.remove();
+            } else if (result.isFailure()) {
+                it.remove();
+            }
+        }
+    }
+
+    // Events for one client. lastEventId is the id of the last event it saw (null for a new client).
+    public Flux<ServerSentEvent<Object>> subscribe(String lastEventId) {
+        return Flux.defer(() -> {
+            Sinks.Many<TaskChange> live = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<TaskChange>get(properties.getSubscriberBuffer()).get());
+            ServerSentEvent<Object> first;
+            List<TaskChange> missed = List.of();
+
+            // Registering and reading the history under the same lock means no change is lost or
+            // delivered twice between the replayed part and the live part
+            synchronized (this) {
+                Long since = lastEventId != null ? resumePoint(lastEventId) : null;
+                if (lastEventId == null) {
+                    first = positionEvent("ready");
+                } else if (since == null) {
+                    first = positionEvent("reset");
+                } else {
+                    first = null;
+                    missed = changesAfter(since);
+                }
+                subscribers.add(live);
+            }
+
+            Sinks.Empty<Void> finished = Sinks.empty();
+            Flux<ServerSentEvent<Object>> changes = Flux.concat(Flux.fromIterable(missed), live.asFlux())
+                    .map(this::changeEvent)
+                    .doOnTerminate(finished::tryEmitEmpty);
+            if (first != null) {
+                changes = changes.startWith(first);
+            }
+
+            Duration heartbeat = properties.getHeartbeatInterval();
+            Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeat, heartbeat)
+                    .onBackpressureDrop()
+                    .map(tick -> ServerSentEvent.<Object>builder().comment("heartbeat").build())
+                    .takeUntilOther(finished.asMono());
+
+            return Flux.merge(changes, heartbeats).doFinally(signal -> unsubscribe(live));
+        });
+    }
+
+    // The sequence number to resume after, or null if the history can't serve it
+    private Long resumePoint(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) {
+            return null;
+        }
+        long sequence;
+        try {
+            sequence = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldestAvailable = history.isEmpty() ? lastSequence + 1 : history.peekFirst().getSequence();
+        if (sequence > lastSequence || sequence < oldestAvailable - 1) {
+            return null;
+        }
+        return sequence;
+    }
+
+    private List<TaskChange> changesAfter(long sequence) {
+        List<TaskChange> changes = new ArrayList<>((int) (lastSequence - sequence));
+        Iterator<TaskChange> it = history.descendingIterator();
+        while (it.hasNext()) {
+            TaskChange change = it.next();
+            if (change.getSequence() <= sequence) {
+                break;
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return changes;
+    }
+
+    // "ready" (new client) and "reset" (client must reload) carry the current position as their id,
+    // so a reconnect after them resumes from here
+    private ServerSentEvent<Object> positionEvent(String name) {
+        return ServerSentEvent.<Object>builder()
+                .id(eventId(lastSequence))
+                .event(name)
+                .data(Map.of("sequence", lastSequence))
+                .build();
+    }
+
+    private ServerSentEvent<Object> changeEvent(TaskChange change) {
+        return ServerSentEvent.<Object>builder()
+                .id(eventId(change.getSequence()))
+                .event("change")
+                .data(change)
+                .build();
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private synchronized void unsubscribe(Sinks.Many<TaskChange> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private synchronized int subscriberCount() {
+        return subscribers.size();
+    }
+}
@@ -2,7 +2,9 @@ package com.example.taskmanagement.mapper;
 
 import com.example.taskmanagement.dto.TaskCreateRequest;
 import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskRecord;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,6 +23,32 @@ public class TaskMapper {
         return task;
     }
 
+    // Copy the fields that were provided in an update request onto an existing task
+    public void updateEntity(TaskUpdateRequest request, Task task) {
+        if (request.getTitle() != null) {
+            task.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            task.setDescription(request.getDescription());
+        }
+        if (request.getDueDate() != null) {
+            task.setDueDate(request.getDueDate());
+        }
+        if (request.getIsCompleted() != null) {
+            task.setIsCompleted(request.getIsCompleted());
+        }
+    }
+
+    // The fields of a full update (PUT) as an update request - like updateEntity, only non-null fields count
+    public TaskUpdateRequest toUpdateRequest(Task taskDetails) {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle(taskDetails.getTitle());
+        request.setDescription(taskDetails.getDescription());
+        request.setDueDate(taskDetails.getDueDate());
+        request.setIsCompleted(taskDetails.getIsCompleted());
+        return request;
+    }
+
     // Convert Task entity to TaskResponse
     public TaskResponse toResponse(Task task) {
         return new TaskResponse(
@@ -29,7 +57,37 @@ public class TaskMapper {
             task.getDescription(),
             task.getCreatedAt(),
             task.getDueDate(),
-            task.getIsCompleted()
+            task.getIsCompleted(),
+            task.getVersion()
+        );
+    }
+
+    // Same as updateEntity, for the R2DBC row used by the reactive API
+    public void updateRecord(TaskUpdateRequest request, TaskRecord record) {
+        if (request.getTitle() != null) {
+            record.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            record.setDescription(request.getDescription());
+        }
+        if (request.getDueDate() != null) {
+            record.setDueDate(request.getDueDate());
+        }
+        if (request.getIsCompleted() != null) {
+            record.setIsCompleted(request.getIsCompleted());
+        }
+    }
+
+    // Convert an R2DBC task row to TaskResponse
+    public TaskResponse toResponse(TaskRecord record) {
+        return new TaskResponse(
+            record.getId(),
+            record.getTitle(),
+            record.getDescription(),
+            record.getCreatedAt(),
+            record.getDueDate(),
+            record.getIsCompleted(),
+            record.getVersion()
         );
     }
 
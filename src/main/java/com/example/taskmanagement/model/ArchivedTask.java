@@ -0,0 +1,85 @@
+package com.example.taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+// A completed task moved out of the tasks table by TaskArchiver (tasks_archive). Rows are only
+// ever copied in and out with set-based statements, so the entity is read-only: it exists for the
+// includeArchived reads, which project straight into TaskResponse like the active-table queries.
+@Entity
+@Table(name = "tasks_archive")
+public class ArchivedTask {
+
+    // Same id as the task had in the tasks table (and gets back on restore)
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "is_completed")
+    private Boolean isCompleted;
+
+    // The task's version when it was archived - unchanged, so ETags stay valid across archive/restore
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Default constructor (required by JPA)
+    protected ArchivedTask() {}
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public Boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
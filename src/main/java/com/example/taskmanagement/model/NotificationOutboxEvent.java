@@ -0,0 +1,126 @@
+package com.example.taskmanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A notification waiting to be sent (transactional outbox).
+// Rows are written in the same transaction as the task change, so a notification exists
+// if and only if the change committed, and it survives a restart until it is delivered.
+@Entity
+@Table(name = "notification_outbox",
+       indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class NotificationOutboxEvent {
+
+    // PENDING rows are (re)tried once next_attempt_at has passed, FAILED rows gave up
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    // What happened, e.g. TASK_CREATED
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    // The notification body as JSON
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false, length = 20)
+    private String status = STATUS_PENDING;
+
+    // How many delivery attempts have failed so far
+    @Column(nullable = false)
+    private int attempts;
+
+    // When the event was recorded
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Earliest time the event may be picked up. While an event is being sent this is pushed
+    // forward by the lease, so after a crash it becomes due again on its own.
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // Default constructor (required by JPA)
+    public NotificationOutboxEvent() {}
+
+    // Constructor for a new event that is due immediately
+    public NotificationOutboxEvent(String type, String payload) {
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -2,16 +2,31 @@ package com.example.taskmanagement.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 // This annotation tells JPA this is a database table
 @Entity
-@Table(name = "tasks")
+// UPDATE statements only set the columns that actually changed (PATCH touches one or two fields)
+@DynamicUpdate
+// Indexes back the status-filtered keyset pages, the stats due-date scan, the task query
+// orders (newest first and soonest due first, see TaskQueryPlan) and the archiver's scan
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_completed_id", columnList = "is_completed, id"),
+        @Index(name = "idx_tasks_completed_completed_at", columnList = "is_completed, completed_at"),
+        @Index(name = "idx_tasks_completed_due_date_id", columnList = "is_completed, due_date, id"),
+        @Index(name = "idx_tasks_completed_created_at_id", columnList = "is_completed, created_at desc, id desc"),
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at desc, id desc"),
+        @Index(name = "idx_tasks_due_date_id", columnList = "due_date, id")
+})
 public class Task {
     
-    // Primary key that auto-increments
+    // Primary key from a database sequence. Hibernate reserves 50 ids per round trip
+    // (pooled optimizer), which also lets it batch inserts - IDENTITY would force one
+    // INSERT per row to read back the generated key.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
     
     // Task title - cannot be null or empty, max 100 characters
@@ -38,6 +53,21 @@ public class Task {
     @Column(name = "is_completed")
     private Boolean isCompleted = false;
 
+    // When the task was completed, null while it is pending. Follows isCompleted (see its setter);
+    // completed tasks are archived once this is older than tasks.archive.age. Not part of the API.
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // The due date the last reminder was sent for (see TaskReminderEngine). Written only by the
+    // reminder engine's bulk update, never by saving the entity, and not part of the API.
+    @Column(name = "reminder_sent_for", insertable = false, updatable = false)
+    private LocalDateTime reminderSentFor;
+
+    // Bumped on every update; an update based on an older version fails instead of overwriting
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Default constructor (required by JPA)
     public Task() {}
 
@@ -93,7 +123,26 @@ public class Task {
         return isCompleted;
     }
 
+    // Completing a pending task stamps completedAt, reopening it clears it. JPA reads and writes the
+    // fields directly, so this only runs for changes made by the application.
     public void setIsCompleted(Boolean isCompleted) {
+        if (!Boolean.TRUE.equals(isCompleted)) {
+            this.completedAt = null;
+        } else if (!Boolean.TRUE.equals(this.isCompleted)) {
+            this.completedAt = LocalDateTime.now();
+        }
         this.isCompleted = isCompleted;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.taskmanagement.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// A row of the tasks table as seen by the R2DBC repository (/api/v2 endpoints).
+// Task is the JPA entity for the same table; reads on both stacks project straight into TaskResponse,
+// so this class is only used to insert and update rows.
+@Table("tasks")
+public class TaskRecord implements Persistable<Long> {
+
+    // Assigned from task_seq before the insert (see PooledIdAllocator)
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("due_date")
+    private LocalDateTime dueDate;
+
+    @Column("is_completed")
+    private Boolean isCompleted;
+
+    // Follows isCompleted the same way as Task.completedAt
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+
+    // Optimistic locking, same column as Task.version
+    @Version
+    private Long version;
+
+    // The id is set before saving, so Spring Data can't tell new rows from existing ones by a null id
+    @Transient
+    private boolean newRecord;
+
+    // Default constructor (used when loading rows)
+    public TaskRecord() {}
+
+    // Constructor for a row that is about to be inserted
+    public TaskRecord(Long id, String title, String description, LocalDateTime createdAt,
+                      LocalDateTime dueDate, Boolean isCompleted) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.dueDate = dueDate;
+        this.isCompleted = isCompleted;
+        this.completedAt = Boolean.TRUE.equals(isCompleted) ? createdAt : null;
+        this.newRecord = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    // Getters and Setters
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    // Same as Task.setIsCompleted: completing stamps completedAt, reopening clears it
+    public void setIsCompleted(Boolean isCompleted) {
+        if (!Boolean.TRUE.equals(isCompleted)) {
+            this.completedAt = null;
+        } else if (!Boolean.TRUE.equals(this.isCompleted)) {
+            this.completedAt = LocalDateTime.now();
+        }
+        this.isCompleted = isCompleted;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,351 @@
+package com.example.taskmanagement.notification;
+
+import com.example.taskmanagement.config.NotificationDispatchProperties;
+import com.example.taskmanagement.model.NotificationOutboxEvent;
+import com.example.taskmanagement.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Sends outbox events to the notification endpoint in the background.
+//
+// One relay thread claims due events from the outbox table into a bounded in-memory queue.
+// A fixed number of workers (the concurrency cap) take up to maxBatchSize events at a time and
+// POST them as a single request, retrying with exponential backoff and jitter. Delivered events
+// are deleted; failed ones get a later next_attempt_at, and after maxAttempts they are marked
+// FAILED. A circuit breaker stops us from hammering an endpoint that is down.
+//
+// Memory stays bounded no matter how slow the endpoint is: anything that doesn't fit in the
+// queue simply waits in the outbox table.
+@Component
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationDispatchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+
+    private final BlockingQueue<NotificationOutboxEvent> queue;
+    private final Semaphore wakeUpSignal = new Semaphore(0);
+    private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-");
+    private volatile boolean running;
+
+    // Metrics
+    private final DistributionSummary batchSize;
+    private final Timer successLatency;
+    private final Timer failureLatency;
+    private final Timer deliveryLag;
+    private final Counter sentEvents;
+    private final Counter failedEvents;
+    private final Counter deadEvents;
+    private final Counter deferredEvents;
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository,
+                                  NotificationDispatchProperties properties,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  WebClient.Builder webClientBuilder,
+                                  @Value("${notification.service.url:https://jsonplaceholder.typicode.com}") String notificationServiceUrl,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                  MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.webClient = webClientBuilder.baseUrl(notificationServiceUrl).build();
+        this.circuitBreaker = new CircuitBreaker(properties.getCircuitFailureThreshold(), properties.getCircuitOpenDuration());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        // Relay and workers spend most of their time waiting on the database or HTTP
+        this.executor.setVirtualThreads(virtualThreads);
+
+        Gauge.builder("notification.queue.depth", queue, BlockingQueue::size)
+                .description("Events claimed from the outbox and waiting for a sender")
+                .register(meterRegistry);
+        Gauge.builder("notification.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("notification.batch.size")
+                .description("Events per POST")
+                .register(meterRegistry);
+        this.successLatency = Timer.builder("notification.dispatch.latency")
+                .description("Time to deliver one batch, including retries")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureLatency = Timer.builder("notification.dispatch.latency")
+                .description("Time to deliver one batch, including retries")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("notification.delivery.lag")
+                .description("Time from recording an event to delivering it")
+                .register(meterRegistry);
+        this.sentEvents = eventCounter(meterRegistry, "sent");
+        this.failedEvents = eventCounter(meterRegistry, "failed");
+        this.deadEvents = eventCounter(meterRegistry, "dead");
+        this.deferredEvents = eventCounter(meterRegistry, "deferred");
+    }
+
+    // Ask the relay to look at the outbox once the current transaction has committed
+    public void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    public void wakeUp() {
+        if (wakeUpSignal.availablePermits() == 0) {
+            wakeUpSignal.release();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        executor.execute(this::relayLoop);
+        for (int i = 0; i < properties.getConcurrency(); i++) {
+            executor.execute(this::workerLoop);
+        }
+    }
+
+    @Override
+    public void stop() {
+        // Events still in the queue keep their lease and are picked up again after a restart
+        running = false;
+        wakeUp();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Relay: move due outbox events into the queue whenever we are woken up or the poll interval passes
+    private void relayLoop() {
+        while (running) {
+            try {
+                wakeUpSignal.tryAcquire(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                wakeUpSignal.drainPermits();
+                claimDueEvents();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Notification relay failed", e);
+            }
+        }
+    }
+
+    // Claim as many due events as there is room for. Claiming pushes next_attempt_at forward by
+    // the lease, so the same event isn't picked up again while it is being sent. Several instances
+    // share the outbox, so each row is claimed with a conditional update: when two relays read the
+    // same row, only the first update still matches and the other one skips the event.
+    private void claimDueEvents() {
+        while (running) {
+            int room = queue.remainingCapacity();
+            if (room == 0) {
+                return;
+            }
+            List<NotificationOutboxEvent> claimed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<NotificationOutboxEvent> due = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        NotificationOutboxEvent.STATUS_PENDING, now, Limit.of(room));
+                LocalDateTime leaseUntil = now.plus(properties.getLease());
+                List<NotificationOutboxEvent> won = new ArrayList<>(due.size());
+                for (NotificationOutboxEvent event : due) {
+                    if (outboxRepository.claim(event.getId(), NotificationOutboxEvent.STATUS_PENDING,
+                            event.getNextAttemptAt(), leaseUntil) == 1) {
+                        won.add(event);
+                    }
+                }
+                return won;
+            });
+            // Only this thread adds to the queue, so the room we measured is still there
+            queue.addAll(claimed);
+            if (claimed.size() < room) {
+                return;
+            }
+        }
+    }
+
+    // Worker: take a batch off the queue and send it
+    private void workerLoop() {
+        List<NotificationOutboxEvent> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running) {
+            try {
+                NotificationOutboxEvent first = queue.poll(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+                // We just made room - let the relay refill the queue
+                wakeUp();
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Notification worker failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<NotificationOutboxEvent> batch) {
+        List<Long> ids = batch.stream().map(NotificationOutboxEvent::getId).toList();
+
+        if (!circuitBreaker.tryAcquire()) {
+            // The endpoint is known to be down - hand the events back without using up an attempt.
+            // While a half-open trial is in flight there is no open time left, so wait at least one
+            // poll interval instead of having the relay claim the same events straight back.
+            Duration delay = circuitBreaker.remainingOpenTime();
+            if (delay.compareTo(properties.getPollInterval()) < 0) {
+                delay = properties.getPollInterval();
+            }
+            LocalDateTime retryAt = LocalDateTime.now().plus(delay);
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.rescheduleAll(ids, retryAt));
+            deferredEvents.increment(batch.size());
+            return;
+        }
+
+        batchSize.record(batch.size());
+        long start = System.nanoTime();
+        try {
+            post(batch);
+            circuitBreaker.onSuccess();
+            successLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(ids));
+            sentEvents.increment(batch.size());
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(event -> deliveryLag.record(Duration.between(event.getCreatedAt(), now)));
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            failureLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Failed to send {} notifications: {}", batch.size(), e.getMessage());
+            markFailed(ids, e);
+        }
+    }
+
+    // POST the batch as {"events": [{"id": ..., "type": ..., "payload": {...}}, ...]}
+    private void post(List<NotificationOutboxEvent> batch) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode events = body.putArray("events");
+        for (NotificationOutboxEvent event : batch) {
+            ObjectNode node = events.addObject();
+            node.put("id", event.getId());
+            node.put("type", event.getType());
+            node.set("payload", readPayload(event));
+        }
+
+        webClient.post()
+                .uri(properties.getBatchPath())
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(properties.getRequestTimeout())
+                .retryWhen(Retry.backoff(properties.getMaxRetries(), properties.getRetryBackoff())
+                        .maxBackoff(properties.getMaxRetryBackoff())
+                        .jitter(0.5)
+                        .filter(NotificationDispatcher::isTransient))
+                .block();
+    }
+
+    // Record the failure and schedule the next attempt, or give up after maxAttempts
+    private void markFailed(List<Long> ids, RuntimeException error) {
+        String message = String.valueOf(error.getMessage());
+        String lastError = message.length() > 500 ? message.substring(0, 500) : message;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (NotificationOutboxEvent event : outboxRepository.findAllById(ids)) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(lastError);
+                if (event.getAttempts() >= properties.getMaxAttempts()) {
+                    event.setStatus(NotificationOutboxEvent.STATUS_FAILED);
+                    deadEvents.increment();
+                } else {
+                    event.setNextAttemptAt(now.plus(redeliveryDelay(event.getAttempts())));
+                    failedEvents.increment();
+                }
+            }
+        });
+    }
+
+    // Backoff between delivery attempts picks up where the in-request retries left off,
+    // doubling each time (capped at the lease) with +/-50% jitter
+    private Duration redeliveryDelay(int attempts) {
+        long base = properties.getRetryBackoff().toMillis() << Math.min(properties.getMaxRetries() + attempts, 30);
+        long capped = Math.min(base, properties.getLease().toMillis());
+        return Duration.ofMillis((long) (capped * ThreadLocalRandom.current().nextDouble(0.5, 1.5)));
+    }
+
+    private JsonNode readPayload(NotificationOutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event " + event.getId() + " has an invalid payload", e);
+        }
+    }
+
+    // Connection problems, timeouts, 5xx and 429 are worth retrying - other 4xx responses are not
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification.events")
+                .description("Notification events by delivery result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanagement.query;
+
+import com.example.taskmanagement.dto.TaskQueryRequest;
+import com.example.taskmanagement.exception.InvalidTaskQueryException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+// A validated task query: the filters, the sort, the fields to return and where the page starts.
+// Filters that are null are not applied.
+public record TaskQuery(Boolean completed, Boolean overdue,
+                        LocalDateTime dueFrom, LocalDateTime dueTo,
+                        LocalDateTime createdFrom, LocalDateTime createdTo,
+                        String text, TaskQueryField sortField, boolean descending,
+                        List<TaskQueryField> fields, Cursor cursor, int size) {
+
+    // Longer than any description, so a longer text could never match
+    private static final int MAX_TEXT_LENGTH = 1000;
+
+    // Check and normalize the request parameters (size is already clamped by the caller)
+    public static TaskQuery of(TaskQueryRequest request, int size) {
+        TaskQueryField sortField = TaskQueryField.ID;
+        if (request.getSort() != null && !request.getSort().isBlank()) {
+            // "field" or "field,direction" - the direction may be given but has to be the field's own
+            String[] parts = request.getSort().split(",", -1);
+            sortField = TaskQueryField.of(parts[0].trim());
+            String direction = parts.length == 2 ? parts[1].trim().toLowerCase(Locale.ROOT) : null;
+            if (sortField == null || sortField.getSort() == TaskQueryField.Sort.NONE || parts.length > 2
+                    || (direction != null && !direction.equals(
+                            sortField.getSort() == TaskQueryField.Sort.DESCENDING ? "desc" : "asc"))) {
+                throw new InvalidTaskQueryException("sort must be id, dueDate (soonest first) or createdAt,desc (newest first)");
+            }
+        }
+        boolean descending = sortField.getSort() == TaskQueryField.Sort.DESCENDING;
+
+        List<TaskQueryField> fields = new ArrayList<>();
+        if (request.getFields() != null && !request.getFields().isBlank()) {
+            for (String name : request.getFields().split(",")) {
+                TaskQueryField field = TaskQueryField.of(name.trim());
+                if (field == null) {
+                    throw new InvalidTaskQueryException("Unknown field: " + name.trim());
+                }
+                if (!fields.contains(field)) {
+                    fields.add(field);
+                }
+            }
+        } else {
+            fields.addAll(List.of(TaskQueryField.values()));
+        }
+
+        String text = request.getText() != null && !request.getText().isBlank()
+                ? request.getText().trim().toLowerCase(Locale.ROOT) : null;
+        if (text != null && text.length() > MAX_TEXT_LENGTH) {
+            throw new InvalidTaskQueryException("text cannot exceed " + MAX_TEXT_LENGTH + " characters");
+        }
+
+        Cursor cursor = request.getCursor() != null && !request.getCursor().isEmpty()
+                ? Cursor.decode(request.getCursor(), sortField) : null;
+
+        return new TaskQuery(request.getCompleted(), request.getOverdue(),
+                request.getDueFrom(), request.getDueTo(), request.getCreatedFrom(), request.getCreatedTo(),
+                text, sortField, descending, List.copyOf(fields), cursor, size);
+    }
+
+    // The queries a page is read with, in order. Rows without a value in the sort field (a task
+    // without a due date) come before all others ascending and after them descending, and are read
+    // by a query of their own: mixed into one keyset condition ("... or due_date is null") they
+    // would keep the database from using the index. So a page starts in the segment its cursor
+    // points into and, if that runs out, continues from the start of the next one.
+    public List<Shape> shapes() {
+        if (sortField == TaskQueryField.ID) {
+            return List.of(shape(Segment.ALL, cursor != null));
+        }
+        boolean inNulls = cursor != null && cursor.value() == null;
+        if (descending) {
+            return inNulls ? List.of(shape(Segment.NULLS, true))
+                    : List.of(shape(Segment.VALUES, cursor != null), shape(Segment.NULLS, false));
+        }
+        return inNulls || cursor == null
+                ? List.of(shape(Segment.NULLS, inNulls), shape(Segment.VALUES, false))
+                : List.of(shape(Segment.VALUES, true));
+    }
+
+    private Shape shape(Segment segment, boolean afterCursor) {
+        return new Shape(completed != null, overdue, dueFrom != null, dueTo != null, createdFrom != null,
+                createdTo != null, text != null, sortField, descending, fields, segment, afterCursor);
+    }
+
+    // What one query looks like, without the values. Queries of the same shape share one plan.
+    public record Shape(boolean completed, Boolean overdue, boolean dueFrom, boolean dueTo, boolean createdFrom,
+                        boolean createdTo, boolean text, TaskQueryField sortField, boolean descending,
+                        List<TaskQueryField> fields, Segment segment, boolean afterCursor) {
+    }
+
+    // Which rows of the sort order a query reads
+    public enum Segment {
+        // Sorted by id, which always has a value
+        ALL,
+        // No value in the sort field, in id order
+        NULLS,
+        // A value in the sort field, in (value, id) order
+        VALUES
+    }
+
+    // The sort value and id of the last row of a page, sent to the client as an opaque string
+    public record Cursor(LocalDateTime value, long id) {
+
+        public String encode(TaskQueryField sortField) {
+            String plain = sortField.getName() + "," + (value != null ? value.toString() : "") + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // A cursor only makes sense for the sort it came from
+        static Cursor decode(String encoded, TaskQueryField sortField) {
+            try {
+                String plain = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                String[] parts = plain.split(",", -1);
+                if (parts.length != 3 || TaskQueryField.of(parts[0]) != sortField) {
+                    throw new InvalidTaskQueryException("cursor does not belong to this sort");
+                }
+                LocalDateTime value = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+                return new Cursor(value, Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new InvalidTaskQueryException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.taskmanagement.query;
+
+import com.example.taskmanagement.dto.TaskQueryPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
+
+// Runs task queries (GET /api/tasks/query) against the database.
+//
+// Clients mostly send a handful of filter combinations with different values, so the criteria
+// query is built once per shape and kept in a small plan cache. Marking it plan-cacheable lets
+// Hibernate keep its SQL translation of that same query object as well, so a repeated shape costs
+// parameter binding and the database round trip only.
+@Component
+public class TaskQueryExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Cache<TaskQuery.Shape, TaskQueryPlan> plans;
+
+    public TaskQueryExecutor(@Value("${tasks.query.plan-cache-size:256}") int planCacheSize,
+                             MeterRegistry meterRegistry) {
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(planCacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, plans, "taskQueryPlans", "cache.manager", "taskQueryExecutor", "name", "taskQueryPlans");
+    }
+
+    // One page of matching tasks, read with limit size + 1 - the extra row only tells us there is more.
+    // Usually one query; two when the page crosses from one segment of the sort order into the next.
+    @Transactional(readOnly = true)
+    public TaskQueryPage execute(TaskQuery query) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Tuple> rows = new ArrayList<>();
+        for (TaskQuery.Shape shape : query.shapes()) {
+            TaskQueryPlan plan = plans.get(shape, key -> TaskQueryPlan.compile(key, entityManager.getCriteriaBuilder()));
+            TypedQuery<Tuple> typedQuery = entityManager.createQuery(plan.getCriteria())
+                    .setHint(HINT_QUERY_PLAN_CACHEABLE, true)
+                    .setMaxResults(query.size() + 1 - rows.size());
+            plan.bind(typedQuery, query, now);
+            rows.addAll(typedQuery.getResultList());
+            if (rows.size() > query.size()) {
+                break;
+            }
+        }
+
+        boolean hasMore = rows.size() > query.size();
+        int count = Math.min(rows.size(), query.size());
+        List<Map<String, Object>> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Tuple row = rows.get(i);
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (TaskQueryField field : query.fields()) {
+                item.put(field.getName(), row.get(field.getName()));
+            }
+            items.add(item);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Tuple last = rows.get(count - 1);
+            LocalDateTime value = query.sortField() == TaskQueryField.ID
+                    ? null : last.get(query.sortField().getName(), LocalDateTime.class);
+            nextCursor = new TaskQuery.Cursor(value, last.get(TaskQueryField.ID.getName(), Long.class))
+                    .encode(query.sortField());
+        }
+        return new TaskQueryPage(items, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanagement.query;
+
+// The task fields a query can return (fields=) and sort on (sort=). The name is both the JSON
+// field name and the Task attribute, so it is used as is in the criteria query.
+//
+// Sorting is limited to the orders an index can be read in (see V5__add_task_query_indexes.sql),
+// so every sorted page is a range read that stops once the page is full. Any other order would
+// sort all matching rows first - seconds on a million tasks.
+public enum TaskQueryField {
+
+    ID("id", Sort.ASCENDING),
+    TITLE("title", Sort.NONE),
+    DESCRIPTION("description", Sort.NONE),
+    // Newest first
+    CREATED_AT("createdAt", Sort.DESCENDING),
+    // Soonest due first
+    DUE_DATE("dueDate", Sort.ASCENDING),
+    IS_COMPLETED("isCompleted", Sort.NONE),
+    VERSION("version", Sort.NONE);
+
+    public enum Sort {
+        NONE,
+        ASCENDING,
+        DESCENDING
+    }
+
+    private final String name;
+    private final Sort sort;
+
+    TaskQueryField(String name, Sort sort) {
+        this.name = name;
+        this.sort = sort;
+    }
+
+    // The field with this (case-sensitive) name, or null
+    public static TaskQueryField of(String name) {
+        for (TaskQueryField field : values()) {
+            if (field.name.equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // The one direction this field can be sorted in
+    public Sort getSort() {
+        return sort;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.taskmanagement.query;
+
+import com.example.taskmanagement.model.Task;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// A criteria query built for one query shape (see TaskQuery#shapes), with parameters in place of the values.
+// Built once and reused for every request of that shape (see TaskQueryExecutor): Hibernate keys
+// its SQL translation on the query object, so reusing it skips both building and translating.
+public class TaskQueryPlan {
+
+    private final TaskQuery.Shape shape;
+    private final CriteriaQuery<Tuple> criteria;
+
+    private TaskQueryPlan(TaskQuery.Shape shape, CriteriaQuery<Tuple> criteria) {
+        this.shape = shape;
+        this.criteria = criteria;
+    }
+
+    public static TaskQueryPlan compile(TaskQuery.Shape shape, CriteriaBuilder cb) {
+        Specification<Task> filter = Specification.where(null);
+        if (shape.completed()) {
+            filter = filter.and(TaskQuerySpecifications.completed());
+        }
+        if (shape.overdue() != null) {
+            filter = filter.and(shape.overdue() ? TaskQuerySpecifications.overdue() : TaskQuerySpecifications.notOverdue());
+        }
+        if (shape.dueFrom()) {
+            filter = filter.and(TaskQuerySpecifications.atOrAfter("dueDate", TaskQuerySpecifications.DUE_FROM));
+        }
+        if (shape.dueTo()) {
+            filter = filter.and(TaskQuerySpecifications.before("dueDate", TaskQuerySpecifications.DUE_TO));
+        }
+        if (shape.createdFrom()) {
+            filter = filter.and(TaskQuerySpecifications.atOrAfter("createdAt", TaskQuerySpecifications.CREATED_FROM));
+        }
+        if (shape.createdTo()) {
+            filter = filter.and(TaskQuerySpecifications.before("createdAt", TaskQuerySpecifications.CREATED_TO));
+        }
+        if (shape.text()) {
+            filter = filter.and(TaskQuerySpecifications.textContains());
+        }
+        if (shape.segment() != TaskQuery.Segment.ALL && !(shape.segment() == TaskQuery.Segment.VALUES && shape.afterCursor())) {
+            // (after a cursor the range on the sort field already leaves out the nulls)
+            filter = filter.and(TaskQuerySpecifications.inSegment(shape.sortField(), shape.segment()));
+        }
+        if (shape.afterCursor()) {
+            filter = filter.and(TaskQuerySpecifications.after(shape.sortField(), shape.descending(), shape.segment()));
+        }
+
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<Task> task = criteria.from(Task.class);
+
+        // Only the requested columns, plus id and the sort field for the next cursor
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TaskQueryField field : selected(shape)) {
+            selections.add(task.get(field.getName()).alias(field.getName()));
+        }
+        criteria.multiselect(selections);
+
+        Predicate where = filter.toPredicate(task, criteria, cb);
+        if (where != null) {
+            criteria.where(where);
+        }
+
+        // Same column order as the indexes, so a page is read in index order and the scan stops once it
+        // is full: (is_completed, id) / (is_completed, due_date, id) / (is_completed, created_at desc,
+        // id desc) with a status filter, and (due_date, id) / (created_at desc, id desc) without.
+        // With the status fixed, ordering by it first changes nothing in the result, but H2 only
+        // reads an index in order when the order by starts with the index's first column.
+        List<Order> order = new ArrayList<>();
+        if (shape.completed()) {
+            order.add(cb.asc(task.get("isCompleted")));
+        }
+        if (shape.segment() == TaskQuery.Segment.VALUES) {
+            Path<?> value = task.get(shape.sortField().getName());
+            order.add(shape.descending() ? cb.desc(value) : cb.asc(value));
+        }
+        order.add(shape.descending() ? cb.desc(task.get("id")) : cb.asc(task.get("id")));
+        criteria.orderBy(order);
+        return new TaskQueryPlan(shape, criteria);
+    }
+
+    public CriteriaQuery<Tuple> getCriteria() {
+        return criteria;
+    }
+
+    // Bind the query's values to the parameters this shape declared
+    public void bind(TypedQuery<Tuple> typedQuery, TaskQuery query, LocalDateTime now) {
+        if (shape.completed()) {
+            typedQuery.setParameter(TaskQuerySpecifications.COMPLETED, query.completed());
+        }
+        if (shape.overdue() != null) {
+            typedQuery.setParameter(TaskQuerySpecifications.NOW, now);
+        }
+        if (shape.dueFrom()) {
+            typedQuery.setParameter(TaskQuerySpecifications.DUE_FROM, query.dueFrom());
+        }
+        if (shape.dueTo()) {
+            typedQuery.setParameter(TaskQuerySpecifications.DUE_TO, query.dueTo());
+        }
+        if (shape.createdFrom()) {
+            typedQuery.setParameter(TaskQuerySpecifications.CREATED_FROM, query.createdFrom());
+        }
+        if (shape.createdTo()) {
+            typedQuery.setParameter(TaskQuerySpecifications.CREATED_TO, query.createdTo());
+        }
+        if (shape.text()) {
+            typedQuery.setParameter(TaskQuerySpecifications.TEXT, likePattern(query.text()));
+        }
+        if (shape.afterCursor()) {
+            typedQuery.setParameter(TaskQuerySpecifications.AFTER_ID, query.cursor().id());
+            if (shape.segment() == TaskQuery.Segment.VALUES) {
+                typedQuery.setParameter(TaskQuerySpecifications.AFTER_VALUE, query.cursor().value());
+            }
+        }
+    }
+
+    // Every column the query selects
+    private static Set<TaskQueryField> selected(TaskQuery.Shape shape) {
+        Set<TaskQueryField> fields = new LinkedHashSet<>(shape.fields());
+        fields.add(TaskQueryField.ID);
+        fields.add(shape.sortField());
+        return fields;
+    }
+
+    // "%text%" with the LIKE wildcards in the text itself escaped
+    private static String likePattern(String text) {
+        StringBuilder pattern = new StringBuilder(text.length() + 2).append('%');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == TaskQuerySpecifications.ESCAPE) {
+                pattern.append(TaskQuerySpecifications.ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanagement.query;
+
+import com.example.taskmanagement.model.Task;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// The filters of a task query as Specifications. Values are never put into the query itself:
+// each filter declares a named parameter that is bound per execution, so one built query
+// (see TaskQueryPlan) serves every request of the same shape.
+final class TaskQuerySpecifications {
+
+    static final String COMPLETED = "completed";
+    static final String DUE_FROM = "dueFrom";
+    static final String DUE_TO = "dueTo";
+    static final String CREATED_FROM = "createdFrom";
+    static final String CREATED_TO = "createdTo";
+    static final String NOW = "now";
+    static final String TEXT = "text";
+    static final String AFTER_VALUE = "afterValue";
+    static final String AFTER_ID = "afterId";
+
+    // Escape character for the LIKE pattern
+    static final char ESCAPE = '\\';
+
+    private TaskQuerySpecifications() {
+    }
+
+    // With the (is_completed, id) and (is_completed, due_date, id) indexes
+    static Specification<Task> completed() {
+        return (task, query, cb) -> cb.equal(task.get("isCompleted"), cb.parameter(Boolean.class, COMPLETED));
+    }
+
+    static Specification<Task> atOrAfter(String attribute, String parameter) {
+        return (task, query, cb) -> cb.greaterThanOrEqualTo(task.get(attribute), cb.parameter(LocalDateTime.class, parameter));
+    }
+
+    static Specification<Task> before(String attribute, String parameter) {
+        return (task, query, cb) -> cb.lessThan(task.get(attribute), cb.parameter(LocalDateTime.class, parameter));
+    }
+
+    // Pending and due before now (same definition as the overdue count in the stats)
+    static Specification<Task> overdue() {
+        return (task, query, cb) -> cb.and(
+                cb.isFalse(task.get("isCompleted")),
+                cb.lessThan(task.get("dueDate"), cb.parameter(LocalDateTime.class, NOW)));
+    }
+
+    static Specification<Task> notOverdue() {
+        return (task, query, cb) -> cb.or(
+                cb.isTrue(task.get("isCompleted")),
+                cb.isNull(task.get("dueDate")),
+                cb.greaterThanOrEqualTo(task.get("dueDate"), cb.parameter(LocalDateTime.class, NOW)));
+    }
+
+    // The bound value is a lower-cased, escaped "%text%" pattern (see TaskQueryPlan#likePattern).
+    // Unlike the other filters this one can't use an index; it only checks the rows the others let through.
+    static Specification<Task> textContains() {
+        return (task, query, cb) -> {
+            Expression<String> pattern = cb.parameter(String.class, TEXT);
+            return cb.or(
+                    cb.like(cb.lower(task.get("title")), pattern, ESCAPE),
+                    cb.like(cb.lower(task.get("description")), pattern, ESCAPE));
+        };
+    }
+
+    // Only the rows of one segment of the sort order (see TaskQuery#shapes)
+    static Specification<Task> inSegment(TaskQueryField sortField, TaskQuery.Segment segment) {
+        return (task, query, cb) -> segment == TaskQuery.Segment.NULLS
+                ? cb.isNull(task.get(sortField.getName()))
+                : cb.isNotNull(task.get(sortField.getName()));
+    }
+
+    // Keyset condition: the rows after the cursor in the segment's order, so the next page starts
+    // right where the last one ended instead of skipping an offset. Written as a range on the sort
+    // field ("due_date >= :afterValue and ...") so the database can seek into its index.
+    static Specification<Task> after(TaskQueryField sortField, boolean descending, TaskQuery.Segment segment) {
+        return (task, query, cb) -> {
+            Path<Long> id = task.get("id");
+            Expression<Long> afterId = cb.parameter(Long.class, AFTER_ID);
+            Predicate nextId = descending ? cb.lessThan(id, afterId) : cb.greaterThan(id, afterId);
+            if (segment != TaskQuery.Segment.VALUES) {
+                // Sorted by id alone (the null segment has nothing else to order by)
+                return nextId;
+            }
+            Path<LocalDateTime> value = task.get(sortField.getName());
+            Expression<LocalDateTime> afterValue = cb.parameter(LocalDateTime.class, AFTER_VALUE);
+            return descending
+                    ? cb.and(cb.lessThanOrEqualTo(value, afterValue), cb.or(cb.lessThan(value, afterValue), nextId))
+                    : cb.and(cb.greaterThanOrEqualTo(value, afterValue), cb.or(cb.greaterThan(value, afterValue), nextId));
+        };
+    }
+}
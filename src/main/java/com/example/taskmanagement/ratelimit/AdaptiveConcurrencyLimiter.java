@@ -0,0 +1,116 @@
+package com.example.taskmanagement.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caps the requests in flight and moves the cap with measured latency (gradient algorithm, as in
+// Netflix's concurrency-limits). A slow moving average of response times is the baseline; when the
+// average of the last window rises above it, requests are queueing somewhere (threads, connections, locks)
+// and the limit shrinks in proportion; when latency is at baseline the limit grows by about sqrt(limit).
+// Requests over the limit are rejected straight away instead of waiting in the Tomcat queue.
+public class AdaptiveConcurrencyLimiter {
+
+    // Latency can rise this much over the baseline before the limit starts shrinking
+    private static final double TOLERANCE = 1.5;
+
+    // Samples are averaged over windows of at least this long and this many requests; each window
+    // is one short-term measurement and one limit update
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    // The baseline is a moving average over about this many windows (a minute or more)
+    private static final int LONG_WINDOWS = 600;
+
+    // Weight of each update in the limit
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by "this" (one short update per completed request)
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowStart = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Call once per acquired request with how long it took
+    public void release(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(rttNanos, inFlightBefore);
+    }
+
+    // Release without a latency sample (streams, whose duration says nothing about server load)
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightBefore) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+        long now = System.nanoTime();
+        if (now - windowStart < WINDOW_NANOS || windowSamples < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+        double shortRttNanos = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+            return;
+        }
+        longRttNanos += (shortRttNanos - longRttNanos) / LONG_WINDOWS;
+
+        // After a load spike the baseline has crept up - let it recover quickly once latency drops
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Far below the limit there is nothing to learn about it
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(estimatedLimit, maxLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanagement.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-client token bucket, implemented as GCRA (generic cell rate algorithm): instead of a token
+// count and a refill timestamp, each client has one number - the time at which its bucket would be
+// full again ("theoretical arrival time"). A request moves that time forward by one emission interval
+// and is allowed if it stays within burst intervals of now. One compare-and-set per request, no locks
+// and no refill thread; the bucket map is Caffeine's (striped, concurrent) and drops idle clients.
+public class ClientRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    public ClientRateLimiter(double ratePerSecond, int burst, Duration idleTimeout, long maxClients) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    // 0 if the request may go ahead, otherwise how long (nanos) until it would be allowed
+    public long tryAcquire(String client) {
+        long now = System.nanoTime();
+        AtomicLong theoreticalArrival = buckets.get(client, key -> new AtomicLong(now));
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
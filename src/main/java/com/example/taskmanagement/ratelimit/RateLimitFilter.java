@@ -0,0 +1,242 @@
+package com.example.taskmanagement.ratelimit;
+
+import com.example.taskmanagement.config.TaskRateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Protects the configured endpoint groups (tasks.rate-limit.endpoints) before a request reaches a controller:
+// - 429 Too Many Requests when the client is over its rate (ClientRateLimiter), with Retry-After
+// - 503 Service Unavailable when the group is at its concurrency limit (AdaptiveConcurrencyLimiter)
+// Both are answered without touching the thread pool beyond this filter or the database.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TaskRateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<EndpointLimits> endpoints = new ArrayList<>();
+
+    public RateLimitFilter(TaskRateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (Map.Entry<String, TaskRateLimitProperties.Endpoint> entry : properties.getEndpoints().entrySet()) {
+            endpoints.add(new EndpointLimits(entry.getKey(), entry.getValue(), properties, meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || endpoints.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointLimits endpoint = match(request);
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (endpoint.rateLimiter != null) {
+            long waitNanos = endpoint.rateLimiter.tryAcquire(clientId(request));
+            if (waitNanos > 0) {
+                endpoint.rateLimited.increment();
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds, "Rate limit exceeded, slow down");
+                return;
+            }
+        }
+
+        AdaptiveConcurrencyLimiter limiter = endpoint.concurrencyLimiter;
+        if (limiter == null) {
+            endpoint.allowed.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            endpoint.shed.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server busy, try again shortly");
+            return;
+        }
+        endpoint.allowed.increment();
+
+        // A stream lasts as long as the client keeps reading, so it holds a slot but gives no latency sample
+        boolean streaming = isStreaming(request);
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                if (streaming) {
+                    limiter.release();
+                } else {
+                    limiter.release(System.nanoTime() - start);
+                }
+            }
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // Mono/Flux and streaming handlers finish after this thread returns
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private EndpointLimits match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (EndpointLimits endpoint : endpoints) {
+            if (endpoint.matches(request.getMethod(), path)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String header = properties.getClientHeader();
+        if (!header.isEmpty()) {
+            String client = request.getHeader(header);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && (accept.contains(MediaType.APPLICATION_NDJSON_VALUE)
+                || accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+    // Same body shape as GlobalExceptionHandler
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", status.value());
+        errorResponse.put("error", status.getReasonPhrase());
+        errorResponse.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static class EndpointLimits {
+        private final List<PathPattern> patterns = new ArrayList<>();
+        private final List<String> methods;
+        private final ClientRateLimiter rateLimiter;
+        private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+        private final Counter allowed;
+        private final Counter rateLimited;
+        private final Counter shed;
+
+        private EndpointLimits(String name, TaskRateLimitProperties.Endpoint config,
+                               TaskRateLimitProperties properties, MeterRegistry meterRegistry) {
+            for (String pattern : config.getPatterns()) {
+                patterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+            this.methods = config.getMethods();
+            this.rateLimiter = config.getRate() > 0
+                    ? new ClientRateLimiter(config.getRate(), config.getBurst(), properties.getClientIdleTimeout(), properties.getMaxClients())
+                    : null;
+            this.concurrencyLimiter = config.getMaxConcurrency() > 0
+                    ? new AdaptiveConcurrencyLimiter(config.getInitialConcurrency(), config.getMinConcurrency(), config.getMaxConcurrency())
+                    : null;
+
+            this.allowed = decisionCounter(meterRegistry, name, "allowed");
+            this.rateLimited = decisionCounter(meterRegistry, name, "rate_limited");
+            this.shed = decisionCounter(meterRegistry, name, "shed");
+            if (concurrencyLimiter != null) {
+                Gauge.builder("tasks.ratelimit.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                        .description("Current adaptive concurrency limit")
+                        .tag("endpoint", name)
+                        .register(meterRegistry);
+                Gauge.builder("tasks.ratelimit.concurrency.in.flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                        .description("Requests in flight counted against the limit")
+                        .tag("endpoint", name)
+                        .register(meterRegistry);
+            }
+        }
+
+        private boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Counter decisionCounter(MeterRegistry meterRegistry, String endpoint, String outcome) {
+            return Counter.builder("tasks.ratelimit.decisions")
+                    .description("Requests to limited endpoints by outcome")
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static class ReleaseOnCompletion implements AsyncListener {
+        private final Runnable release;
+
+        private ReleaseOnCompletion(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // The listener has to be added again if the request goes async once more
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanagement.reminder;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+// One pending reminder: the task and the due date it is for. Ordered by (dueDate, taskId),
+// which is also the order reminders are loaded from the database in.
+public record ScheduledReminder(Long taskId, LocalDateTime dueDate) {
+
+    public static final Comparator<ScheduledReminder> ORDER =
+            Comparator.comparing(ScheduledReminder::dueDate).thenComparing(ScheduledReminder::taskId);
+}
@@ -0,0 +1,236 @@
+package com.example.taskmanagement.reminder;
+
+import com.example.taskmanagement.config.TaskReminderProperties;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+// Sends a reminder when a pending task is about to fall due (tasks.reminders.lead-time before its due date).
+//
+// Upcoming reminders are kept in memory in (due date, task id) order. Only a window of them is held:
+// everything up to the "loadedThrough" position has been read from the (is_completed, due_date) index,
+// and the window is extended with range queries as time moves on, so millions of future due dates cost
+// neither memory nor full scans. Committed writes update the queue directly (TaskChangedEvent) when the
+// task falls inside the loaded window; anything beyond it is picked up when the window gets there.
+//
+// Each task stores the due date its last reminder was sent for. That is set in the same transaction
+// as the outbox notification, so after a restart the queue is simply reloaded and nothing is sent twice.
+// Every instance runs the tick, so it is set with a conditional update, and only the instance whose
+// update matched sends the reminder.
+@Component
+public class TaskReminderEngine implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderEngine.class);
+
+    private final TaskRepository taskRepository;
+    private final NotificationService notificationService;
+    private final TaskReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    // All guarded by "this"
+    private final TreeSet<ScheduledReminder> queue = new TreeSet<>(ScheduledReminder.ORDER);
+    private final Map<Long, ScheduledReminder> byTaskId = new HashMap<>();
+    private ScheduledReminder loadedThrough;
+
+    private final Counter sentReminders;
+
+    public TaskReminderEngine(TaskRepository taskRepository, NotificationService notificationService,
+                              TaskReminderProperties properties, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Nothing is loaded yet: the first tick reads everything from catch-up ago onwards
+        this.loadedThrough = new ScheduledReminder(0L, LocalDateTime.now().minus(properties.getCatchUp()));
+
+        Gauge.builder("tasks.reminders.scheduled", this, TaskReminderEngine::scheduledCount)
+                .description("Reminders held in memory, waiting for their time")
+                .register(meterRegistry);
+        this.sentReminders = Counter.builder("tasks.reminders.sent")
+                .description("Reminders handed to the notification outbox")
+                .register(meterRegistry);
+    }
+
+    // Check the queue every tasks.reminders.tick (registered here so the interval is the bound Duration)
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        Duration tick = properties.getTick();
+        registrar.addFixedDelayTask(new FixedDelayTask(this::tick, tick, tick));
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        ScheduledReminder existing = byTaskId.remove(event.getTaskId());
+        if (existing != null) {
+            queue.remove(existing);
+        }
+
+        TaskResponse before = event.getBefore();
+        TaskResponse after = event.getAfter();
+        if (after == null || Boolean.TRUE.equals(after.getIsCompleted()) || after.getDueDate() == null) {
+            return;
+        }
+        // A task that was loaded but not queued has already had its reminder - unless it got a new
+        // due date or was reopened, which re-arms it
+        boolean armed = existing != null || before == null || Boolean.TRUE.equals(before.getIsCompleted())
+                || !Objects.equals(before.getDueDate(), after.getDueDate());
+        ScheduledReminder reminder = new ScheduledReminder(after.getId(), after.getDueDate());
+        if (armed && isLoaded(reminder) && !after.getDueDate().isBefore(LocalDateTime.now().minus(properties.getCatchUp()))) {
+            schedule(reminder);
+        }
+    }
+
+    public synchronized int scheduledCount() {
+        return queue.size();
+    }
+
+    private void tick() {
+        try {
+            loadAhead();
+            LocalDateTime dueBy = LocalDateTime.now().plus(properties.getLeadTime());
+            List<ScheduledReminder> batch = dueReminders(dueBy);
+            while (!batch.isEmpty()) {
+                send(batch, dueBy);
+                batch = dueReminders(dueBy);
+            }
+        } catch (RuntimeException e) {
+            // The reminders stay queued and are retried on the next tick
+            log.error("Sending task reminders failed", e);
+        }
+    }
+
+    // Once less than half the horizon is loaded, extend the window to the full horizon - a page
+    // at a time, while there is room in memory. So it is one range query per half horizon, not per tick.
+    private void loadAhead() {
+        LocalDateTime start = LocalDateTime.now().plus(properties.getLeadTime());
+        LocalDateTime until = start.plus(properties.getHorizon());
+        synchronized (this) {
+            if (!loadedThrough.dueDate().isBefore(start.plus(properties.getHorizon().dividedBy(2)))) {
+                return;
+            }
+        }
+        while (true) {
+            ScheduledReminder from;
+            int room;
+            synchronized (this) {
+                from = loadedThrough;
+                room = properties.getMaxLoaded() - queue.size();
+            }
+            if (room <= 0 || !from.dueDate().isBefore(until)) {
+                return;
+            }
+            int limit = Math.min(room, properties.getBatchSize());
+            List<ScheduledReminder> page = taskRepository.findUnsentRemindersAfter(from.dueDate(), from.taskId(),
+                    until, Limit.of(limit));
+            synchronized (this) {
+                for (ScheduledReminder reminder : page) {
+                    // A change event that arrived while we were reading is newer than this row
+                    if (!byTaskId.containsKey(reminder.taskId())) {
+                        schedule(reminder);
+                    }
+                }
+                // A short page means everything before "until" has been read
+                loadedThrough = page.size() < limit ? new ScheduledReminder(0L, until) : page.get(page.size() - 1);
+            }
+            if (page.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    // The earliest reminders whose time has come, left in the queue until they are sent
+    private synchronized List<ScheduledReminder> dueReminders(LocalDateTime dueBy) {
+        List<ScheduledReminder> batch = new ArrayList<>();
+        Iterator<ScheduledReminder> it = queue.iterator();
+        while (batch.size() < properties.getBatchSize() && it.hasNext()) {
+            ScheduledReminder reminder = it.next();
+            if (reminder.dueDate().isAfter(dueBy)) {
+                break;
+            }
+            batch.add(reminder);
+        }
+        return batch;
+    }
+
+    // Re-read the tasks, mark the ones that still need a reminder as sent and queue one notification
+    // for all of them - in a single transaction, so a reminder is sent exactly when it is recorded
+    private void send(List<ScheduledReminder> batch, LocalDateTime dueBy) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (ScheduledReminder reminder : batch) {
+            ids.add(reminder.taskId());
+        }
+
+        List<TaskResponse> moved = new ArrayList<>();
+        int sent = transactionTemplate.execute(status -> {
+            List<Long> dueIds = new ArrayList<>();
+            List<String> titles = new ArrayList<>();
+            for (TaskResponse task : taskRepository.findUnsentReminders(ids)) {
+                if (task.getDueDate().isAfter(dueBy)) {
+                    // The due date moved later than the queue knew about
+                    moved.add(task);
+                } else if (taskRepository.markReminderSent(task.getId(), task.getDueDate()) == 1) {
+                    dueIds.add(task.getId());
+                    titles.add(task.getTitle());
+                }
+            }
+            if (!dueIds.isEmpty()) {
+                notificationService.sendTasksDueNotification(titles);
+            }
+            return dueIds.size();
+        });
+        sentReminders.increment(sent);
+        log.debug("Sent {} task reminders ({} rescheduled)", sent, moved.size());
+
+        synchronized (this) {
+            for (ScheduledReminder reminder : batch) {
+                // Only drop entries nobody has replaced in the meantime
+                if (queue.remove(reminder)) {
+                    byTaskId.remove(reminder.taskId(), reminder);
+                }
+            }
+            for (TaskResponse task : moved) {
+                ScheduledReminder reminder = new ScheduledReminder(task.getId(), task.getDueDate());
+                if (!byTaskId.containsKey(task.getId()) && isLoaded(reminder)) {
+                    schedule(reminder);
+                }
+            }
+        }
+    }
+
+    private void schedule(ScheduledReminder reminder) {
+        queue.add(reminder);
+        byTaskId.put(reminder.taskId(), reminder);
+    }
+
+    // Inside the window already read from the database (later reminders are loaded when we get there)
+    private boolean isLoaded(ScheduledReminder reminder) {
+        return ScheduledReminder.ORDER.compare(reminder, loadedThrough) <= 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.NotificationOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Database access for the notification outbox
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEvent, Long> {
+
+    // Oldest events with the given status that are due to be sent
+    List<NotificationOutboxEvent> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            String status, LocalDateTime now, Limit limit);
+
+    // Claim one event by moving its next attempt out to the end of the lease - but only if it still
+    // has the next_attempt_at we read. Returns 0 when another instance claimed it first.
+    @Modifying
+    @Query("update NotificationOutboxEvent e set e.nextAttemptAt = :leaseUntil "
+            + "where e.id = :id and e.status = :status and e.nextAttemptAt = :seen")
+    int claim(@Param("id") Long id, @Param("status") String status, @Param("seen") LocalDateTime seen,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // Push back the next attempt for events we claimed but could not send (e.g. circuit open)
+    @Modifying
+    @Query("update NotificationOutboxEvent e set e.nextAttemptAt = :nextAttemptAt where e.id in :ids")
+    int rescheduleAll(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagement.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+// Hands out ids from a database sequence without a round trip per id, compatible with Hibernate's
+// "pooled" optimizer that the JPA side uses for the same sequences (allocationSize = increment).
+//
+// A sequence value v reserves the block (v - increment, v]. The sequence's initial value is the
+// exception, as in Hibernate: it reserves only itself (the ids below it were never free).
+// Following the same rules keeps R2DBC and JPA inserts from ever handing out the same id.
+public class PooledIdAllocator {
+
+    private final Supplier<Mono<Long>> nextSequenceValue;
+    private final long increment;
+    private final long initialValue;
+
+    // Current block, guarded by "this". next > hi means the block is used up.
+    private long next = 1;
+    private long hi = 0;
+
+    public PooledIdAllocator(Supplier<Mono<Long>> nextSequenceValue, long increment, long initialValue) {
+        this.nextSequenceValue = nextSequenceValue;
+        this.increment = increment;
+        this.initialValue = initialValue;
+    }
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                if (next <= hi) {
+                    return Mono.just(next++);
+                }
+            }
+            return nextBlock().map(block -> {
+                synchronized (this) {
+                    // If another caller installed a fresh block meanwhile, keep it and use only the first
+                    // id of ours - the rest of our block is skipped, which is safe (ids are never reused)
+                    if (next > hi) {
+                        next = block[0] + 1;
+                        hi = block[1];
+                    }
+                }
+                return block[0];
+            });
+        });
+    }
+
+    private Mono<long[]> nextBlock() {
+        return nextSequenceValue.get().map(value -> value == initialValue
+                ? new long[] {value, value}
+                : new long[] {value - increment + 1, value});
+    }
+}
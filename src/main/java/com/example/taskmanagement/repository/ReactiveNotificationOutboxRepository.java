@@ -0,0 +1,38 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.NotificationOutboxEvent;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+// Writes notification outbox rows over R2DBC, so /api/v2 writes can queue their notifications in the
+// same (reactive) transaction as the task change. Delivery is still done by NotificationDispatcher.
+@Repository
+public class ReactiveNotificationOutboxRepository {
+
+    private final DatabaseClient databaseClient;
+
+    // Matches allocationSize on NotificationOutboxEvent
+    private final PooledIdAllocator ids;
+
+    public ReactiveNotificationOutboxRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.ids = new PooledIdAllocator(() -> databaseClient.sql("select next value for notification_outbox_seq")
+                .map(row -> row.get(0, Long.class))
+                .one(), 50, 1);
+    }
+
+    public Mono<Void> insert(NotificationOutboxEvent event) {
+        return ids.nextId().flatMap(id -> databaseClient.sql("insert into notification_outbox "
+                        + "(id, type, payload, status, attempts, created_at, next_attempt_at) "
+                        + "values (:id, :type, :payload, :status, :attempts, :createdAt, :nextAttemptAt)")
+                .bind("id", id)
+                .bind("type", event.getType())
+                .bind("payload", event.getPayload())
+                .bind("status", event.getStatus())
+                .bind("attempts", event.getAttempts())
+                .bind("createdAt", event.getCreatedAt())
+                .bind("nextAttemptAt", event.getNextAttemptAt())
+                .then());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.model.TaskRecord;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking access to the tasks table over R2DBC (used by the /api/v2 endpoints).
+// Same queries as TaskRepository, selecting straight into TaskResponse.
+@Repository
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRecord, Long> {
+
+    // One task by id
+    @Query("select id, title, description, created_at, due_date, is_completed, version from tasks where id = :id")
+    Mono<TaskResponse> findResponseById(@Param("id") Long id);
+
+    // Keyset pagination: the next "limit" tasks with an id greater than the cursor
+    @Query("select id, title, description, created_at, due_date, is_completed, version from tasks "
+            + "where id > :afterId order by id limit :limit")
+    Flux<TaskResponse> findResponsesAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // Same as above, but only tasks where is_completed equals the given value
+    @Query("select id, title, description, created_at, due_date, is_completed, version from tasks "
+            + "where is_completed = :isCompleted and id > :afterId order by id limit :limit")
+    Flux<TaskResponse> findResponsesByIsCompletedAfter(@Param("isCompleted") Boolean isCompleted,
+                                                       @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // Every task in id order - rows are pulled from the driver as the subscriber requests them
+    @Query("select id, title, description, created_at, due_date, is_completed, version from tasks order by id")
+    Flux<TaskResponse> streamAllResponses();
+
+    @Query("select id, title, description, created_at, due_date, is_completed, version from tasks "
+            + "where is_completed = :isCompleted order by id")
+    Flux<TaskResponse> streamResponsesByIsCompleted(@Param("isCompleted") Boolean isCompleted);
+
+    // Next value of task_seq - the top of a block of ids (see PooledIdAllocator)
+    @Query("select next value for task_seq")
+    Mono<Long> nextIdBlock();
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.model.ArchivedTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Database access for archived tasks (tasks_archive), and the statements that move rows between
+// the tasks table and the archive. The moves are plain INSERT ... SELECT and DELETE: no entities
+// are loaded, and every column (reminder_sent_for included) goes across unchanged.
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTask, Long> {
+
+    // One archived task by id
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(a.id, a.title, a.description, a.createdAt, a.dueDate, a.isCompleted, a.version) "
+            + "from ArchivedTask a where a.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    // Keyset page of archived tasks, same order as TaskRepository.findResponsesAfter
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(a.id, a.title, a.description, a.createdAt, a.dueDate, a.isCompleted, a.version) "
+            + "from ArchivedTask a where a.id > :afterId order by a.id")
+    List<TaskResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Ids of the completed tasks due for archiving, oldest completion first, locked until the
+    // transaction ends - a concurrent update waits and then finds the task gone instead of
+    // changing a row that is being copied
+    @Query(value = "select id from tasks where is_completed = true and completed_at < :cutoff "
+            + "order by completed_at, id limit :limit for update", nativeQuery = true)
+    List<Long> lockArchivable(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Copy tasks into the archive (the caller deletes them from tasks in the same transaction)
+    @Modifying
+    @Query(value = "insert into tasks_archive (id, title, description, created_at, due_date, is_completed, version, "
+            + "reminder_sent_for, completed_at, archived_at) "
+            + "select id, title, description, created_at, due_date, is_completed, version, "
+            + "reminder_sent_for, completed_at, :archivedAt from tasks where id in :ids", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Lock an archived task for restoring; empty if it isn't (or no longer is) archived
+    @Query(value = "select id from tasks_archive where id = :id for update", nativeQuery = true)
+    Optional<Long> lockArchived(@Param("id") Long id);
+
+    // Copy an archived task back into tasks. completed_at restarts at completedAt, so the next
+    // archiver run doesn't move it straight back.
+    @Modifying
+    @Query(value = "insert into tasks (id, title, description, created_at, due_date, is_completed, version, "
+            + "reminder_sent_for, completed_at) "
+            + "select id, title, description, created_at, due_date, is_completed, version, "
+            + "reminder_sent_for, :completedAt from tasks_archive where id = :id", nativeQuery = true)
+    int copyToTasks(@Param("id") Long id, @Param("completedAt") LocalDateTime completedAt);
+}
@@ -1,18 +1,116 @@
 package com.example.taskmanagement.repository;
 
+import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.reminder.ScheduledReminder;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 // This interface gives us basic database operations for free
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    
-    // Spring Data JPA will automatically create this method for us
-    // It finds all tasks where isCompleted equals the given value
-    List<Task> findByIsCompleted(Boolean isCompleted);
-    
-    // Find tasks by title containing a string (case-insensitive search)
-    List<Task> findByTitleContainingIgnoreCase(String title);
-}
\ No newline at end of file
+
+    // Read queries select straight into TaskResponse (JPQL constructor expression): no managed
+    // entities, no dirty-checking snapshots and no mapping step before the response is written
+
+    // One task by id
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    // Keyset pagination: the next "limit" tasks with an id greater than the cursor
+    // Walking the primary key index means page 1000 is as cheap as page 1
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.id > :afterId order by t.id")
+    List<TaskResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // The given tasks, in id order
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.id in :ids order by t.id")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Ids of the most recently created tasks (highest first), used to warm the cache at startup
+    @Transactional(readOnly = true)
+    @Query("select t.id from Task t order by t.id desc")
+    List<Long> findNewestIds(Limit limit);
+
+    // Same as above, but only tasks where isCompleted equals the given value
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.isCompleted = :isCompleted and t.id > :afterId order by t.id")
+    List<TaskResponse> findResponsesByIsCompletedAfter(@Param("isCompleted") Boolean isCompleted,
+                                                       @Param("afterId") Long afterId, Limit limit);
+
+    // Pending tasks due in [from, to) after the cursor (a null "from" means no lower bound).
+    // The (is_completed, due_date) index narrows the range; the page is then sorted by id.
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.isCompleted = false and (:from is null or t.dueDate >= :from) and t.dueDate < :to "
+            + "and t.id > :afterId order by t.id")
+    List<TaskResponse> findPendingResponsesDueBetweenAfter(@Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to,
+                                                           @Param("afterId") Long afterId, Limit limit);
+
+    // Streaming variants - rows are read from a JDBC cursor in fetch-size chunks instead of
+    // being loaded into one big list. Must be consumed inside a transaction and closed afterwards.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t order by t.id")
+    Stream<TaskResponse> streamAllResponses();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.isCompleted = :isCompleted order by t.id")
+    Stream<TaskResponse> streamResponsesByIsCompleted(@Param("isCompleted") Boolean isCompleted);
+
+    // Counts for the stats reconciliation (see TaskStatistics)
+    long countByIsCompleted(Boolean isCompleted);
+
+    // Due dates of pending tasks only - answered from the (is_completed, due_date) index
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select t.dueDate from Task t where t.isCompleted = false and t.dueDate is not null")
+    Stream<LocalDateTime> streamPendingDueDates();
+
+    // Reminders still to send, in (due date, id) order after the given position and before "until".
+    // A range scan over the (is_completed, due_date) index - never the whole table.
+    @Transactional(readOnly = true)
+    @Query("select new com.example.taskmanagement.reminder.ScheduledReminder(t.id, t.dueDate) from Task t "
+            + "where t.isCompleted = false and t.dueDate < :until "
+            + "and (t.dueDate > :afterDue or (t.dueDate = :afterDue and t.id > :afterId)) "
+            + "and (t.reminderSentFor is null or t.reminderSentFor <> t.dueDate) "
+            + "order by t.dueDate, t.id")
+    List<ScheduledReminder> findUnsentRemindersAfter(@Param("afterDue") LocalDateTime afterDue,
+                                                     @Param("afterId") Long afterId,
+                                                     @Param("until") LocalDateTime until, Limit limit);
+
+    // Current state of the given tasks, if they still need a reminder
+    @Query("select new com.example.taskmanagement.dto.TaskResponse(t.id, t.title, t.description, t.createdAt, t.dueDate, t.isCompleted, t.version) "
+            + "from Task t where t.id in :ids and t.isCompleted = false and t.dueDate is not null "
+            + "and (t.reminderSentFor is null or t.reminderSentFor <> t.dueDate)")
+    List<TaskResponse> findUnsentReminders(@Param("ids") Collection<Long> ids);
+
+    // Record that the reminder for the given due date went out - only if it is still the task's due date
+    // and nobody has recorded it yet. Returns 0 when another instance got there first.
+    @Modifying
+    @Query("update Task t set t.reminderSentFor = t.dueDate where t.id = :id and t.dueDate = :dueDate "
+            + "and (t.reminderSentFor is null or t.reminderSentFor <> t.dueDate)")
+    int markReminderSent(@Param("id") Long id, @Param("dueDate") LocalDateTime dueDate);
+}
@@ -0,0 +1,398 @@
+package com.example.taskmanagement.search;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchHit;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.service.TaskService;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-process full-text index over task title and description (Apache Lucene).
+//
+// Every committed write is applied to the index through TaskChangedEvent, and the whole index is
+// rebuilt from the database on startup. Searches never touch the database: hits are built from the
+// stored fields, ranked with BM25 and highlighted from the same stored text.
+@Component
+public class TaskSearchIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    // Fields in the index
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String COMPLETED = "isCompleted";
+    private static final String CREATED_AT = "createdAt";
+    private static final String DUE_DATE = "dueDate";
+    private static final String VERSION = "version";
+
+    // A title match counts for more than a description match, and a whole word for more than a prefix
+    private static final float TITLE_BOOST = 2.0f;
+    private static final float PREFIX_BOOST = 0.5f;
+
+    // Shorter prefixes would expand to a large part of the vocabulary
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    // Marker in appliedVersions for a task whose version was unknown
+    private static final long NO_VERSION = -1L;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    // TaskService depends on this bean, so it is looked up when first used. An ObjectProvider rather
+    // than @Lazy, whose class-based proxy breaks under AOT processing (mvn -Paot).
+    private final ObjectProvider<TaskService> taskService;
+
+    // Deepest result a client can page to (page * size + size)
+    private final int maxWindow;
+
+    // Ids written through events while the startup rebuild runs - the rebuild must not overwrite them
+    // with the older row it may have read
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    // Version of the last change applied to each task in the index. Events can arrive out of order
+    // (two transactions committing close together), and an older one must not overwrite a newer
+    // document or bring back a deleted task.
+    private final Map<Long, Long> appliedVersions = new ConcurrentHashMap<>();
+
+    // Deleted (or archived) task ids -> System.nanoTime() of the delete. A late event arrives within
+    // moments of the delete, so tombstones are dropped once they are older than tombstoneTtl.
+    private final Map<Long, Long> tombstones = new ConcurrentHashMap<>();
+    private final long tombstoneTtlNanos;
+    private final AtomicLong lastPrune = new AtomicLong(System.nanoTime());
+
+    public TaskSearchIndex(ObjectProvider<TaskService> taskService,
+                           @Value("${tasks.search.index-path:}") String indexPath,
+                           @Value("${tasks.search.max-window:10000}") int maxWindow,
+                           @Value("${tasks.search.tombstone-ttl:10m}") Duration tombstoneTtl) throws IOException {
+        this.taskService = taskService;
+        this.maxWindow = maxWindow;
+        this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+
+        // The index is always rebuilt from the database, so memory is the default. Point index-path at
+        // a directory to keep a large index off the heap (memory-mapped by the OS).
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory,
+                new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        // Make writes visible to searches within 100ms without reopening on every single write
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, 0.1, 0.01);
+        this.reopenThread.setName("task-search-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+    }
+
+    // Rebuild the index from the database once the application has started
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        int[] count = {0};
+        try {
+            taskService.getObject().streamAllTasks(task -> {
+                if (!changedDuringRebuild.contains(task.getId())) {
+                    index(task, true);
+                    count[0]++;
+                }
+            });
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+        writer.commit();
+        searcherManager.maybeRefresh();
+        log.info("Indexed {} tasks for search in {}ms", count[0], System.currentTimeMillis() - start);
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getTaskId());
+        }
+        if (event.isRemoval()) {
+            delete(event.getTaskId());
+        } else {
+            // Only a restore brings a task back from a tombstone
+            index(event.getAfter(), event.getType() == TaskChangedEvent.Type.RESTORED);
+        }
+    }
+
+    // Search title and description. Every word must match (as a word or a word prefix), best matches first.
+    public TaskSearchResults search(String text, int page, int size) {
+        Set<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return new TaskSearchResults(text, 0, page, size, List.of());
+        }
+
+        // Deep pages are cut off at maxWindow - collecting them would cost more than they are worth
+        int from = (int) Math.min((long) page * size, maxWindow);
+        int window = Math.min(from + size, maxWindow);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs top = searcher.search(buildQuery(terms), Math.max(window, 1));
+            ScoreDoc[] scoreDocs = top.scoreDocs;
+
+            // Only the page being returned is loaded and highlighted
+            List<TaskSearchHit> hits = new ArrayList<>();
+            StoredFields storedFields = searcher.storedFields();
+            for (int i = from; i < Math.min(scoreDocs.length, window); i++) {
+                TaskResponse task = toResponse(storedFields.document(scoreDocs[i].doc));
+                hits.add(new TaskSearchHit(task, scoreDocs[i].score, highlight(terms, task)));
+            }
+            return new TaskSearchResults(text, top.totalHits.value, page, size, hits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    // mayRevive: whether the task may replace a tombstone - a restore, or a row read by the rebuild
+    private void index(TaskResponse task, boolean mayRevive) {
+        long version = task.getVersion() == null ? NO_VERSION : task.getVersion();
+        // compute() holds the entry while the index is written, so two changes to one task are
+        // applied in the same order as their versions are recorded
+        appliedVersions.compute(task.getId(), (id, applied) -> {
+            if (applied == null && !mayRevive && tombstones.containsKey(id)) {
+                return null;
+            }
+            if (applied != null && version != NO_VERSION && applied != NO_VERSION && applied > version) {
+                return applied;
+            }
+            write(task);
+            tombstones.remove(id);
+            return version;
+        });
+    }
+
+    private void write(TaskResponse task) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, task.getId().toString(), Field.Store.YES));
+        doc.add(new TextField(TITLE, nullToEmpty(task.getTitle()), Field.Store.YES));
+        doc.add(new TextField(DESCRIPTION, nullToEmpty(task.getDescription()), Field.Store.YES));
+        doc.add(new StoredField(COMPLETED, String.valueOf(Boolean.TRUE.equals(task.getIsCompleted()))));
+        if (task.getCreatedAt() != null) {
+            doc.add(new StoredField(CREATED_AT, task.getCreatedAt().toString()));
+        }
+        if (task.getDueDate() != null) {
+            doc.add(new StoredField(DUE_DATE, task.getDueDate().toString()));
+        }
+        if (task.getVersion() != null) {
+            doc.add(new StoredField(VERSION, task.getVersion()));
+        }
+        try {
+            writer.updateDocument(new Term(ID, task.getId().toString()), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(Long id) {
+        long now = System.nanoTime();
+        appliedVersions.compute(id, (key, applied) -> {
+            try {
+                writer.deleteDocuments(new Term(ID, id.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            tombstones.put(id, now);
+            return null;
+        });
+        pruneTombstones(now);
+    }
+
+    // At most once per TTL, drop the tombstones no late event can still need
+    private void pruneTombstones(long now) {
+        long last = lastPrune.get();
+        if (now - last >= tombstoneTtlNanos && lastPrune.compareAndSet(last, now)) {
+            tombstones.values().removeIf(deletedAt -> now - deletedAt >= tombstoneTtlNanos);
+        }
+    }
+
+    // Each word becomes (title word OR description word OR title prefix OR description prefix),
+    // and all words are required
+    private static Query buildQuery(Set<String> terms) {
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            any.add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+            any.add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+            if (term.length() >= MIN_PREFIX_LENGTH) {
+                any.add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), TITLE_BOOST * PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+                any.add(new BoostQuery(new PrefixQuery(new Term(DESCRIPTION, term)), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            all.add(any.build(), BooleanClause.Occur.MUST);
+        }
+        return all.build();
+    }
+
+    // Run the text through the same analyzer used for indexing (lower-casing, word splitting)
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    // Highlight the fields of one hit. Titles and descriptions are short, so instead of running a
+    // general-purpose highlighter (which builds an in-memory index per field) we re-tokenize the text
+    // and mark the words the query matched, exactly or by prefix.
+    private Map<String, String> highlight(Set<String> terms, TaskResponse task) {
+        Map<String, String> result = new LinkedHashMap<>();
+        addHighlight(result, TITLE, terms, task.getTitle());
+        addHighlight(result, DESCRIPTION, terms, task.getDescription());
+        return result;
+    }
+
+    private void addHighlight(Map<String, String> result, String field, Set<String> terms, String text) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        int last = 0;
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            OffsetAttribute offset = stream.addAttribute(OffsetAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                if (matches(terms, term.toString())) {
+                    // The text is user input and clients render the snippet as HTML, so everything but
+                    // our own tags is escaped
+                    highlighted.append(HtmlUtils.htmlEscape(text.substring(last, offset.startOffset())))
+                            .append("<b>")
+                            .append(HtmlUtils.htmlEscape(text.substring(offset.startOffset(), offset.endOffset())))
+                            .append("</b>");
+                    last = offset.endOffset();
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (last > 0) {
+            result.put(field, highlighted.append(HtmlUtils.htmlEscape(text.substring(last))).toString());
+        }
+    }
+
+    // Same matching rules as buildQuery: the whole word, or a prefix of MIN_PREFIX_LENGTH or more
+    private static boolean matches(Set<String> terms, String word) {
+        for (String term : terms) {
+            if (word.equals(term) || (term.length() >= MIN_PREFIX_LENGTH && word.startsWith(term))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TaskResponse toResponse(Document doc) {
+        String description = doc.get(DESCRIPTION);
+        return new TaskResponse(
+                Long.valueOf(doc.get(ID)),
+                doc.get(TITLE),
+                description.isEmpty() ? null : description,
+                parseDate(doc.get(CREATED_AT)),
+                parseDate(doc.get(DUE_DATE)),
+                Boolean.valueOf(doc.get(COMPLETED)),
+                parseVersion(doc.getField(VERSION)));
+    }
+
+    private static Long parseVersion(IndexableField field) {
+        return field == null ? null : field.numericValue().longValue();
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,80 +1,120 @@
 package com.example.taskmanagement.service;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.example.taskmanagement.model.NotificationOutboxEvent;
+import com.example.taskmanagement.notification.NotificationDispatcher;
+import com.example.taskmanagement.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 // This service demonstrates REST client calls to external APIs
 // NOTE: This is a DEMO service - no real emails are sent!
 // It calls JSONPlaceholder (a fake API) to show how external API integration works
+//
+// User lookups live in UserDirectoryClient (non-blocking and cached).
+//
+// Notifications are not sent inline. They are written to the notification outbox in the
+// caller's transaction and delivered in batches by NotificationDispatcher after commit.
 @Service
 public class NotificationService {
 
-    private final WebClient webClient;
+    // Batch notifications list at most this many task titles
+    private static final int MAX_TITLES_PER_NOTIFICATION = 100;
 
-    // JSONPlaceholder is a fake REST API for testing (https://jsonplaceholder.typicode.com)
-    @Value("${notification.service.url:https://jsonplaceholder.typicode.com}")
-    private String notificationServiceUrl;
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
 
-    public NotificationService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(notificationServiceUrl).build();
-    }
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
-    // DEMO: Simulate calling an external notification service (no real email sent)
+    // DEMO: Queue a "task created" notification (no real email sent)
+    @Transactional
     public void sendTaskCreatedNotification(String taskTitle, String userEmail) {
-        // Create a fake notification payload (this goes to JSONPlaceholder, not real email)
+        enqueue(taskCreatedEvent(taskTitle));
+    }
+
+    // DEMO: Queue a task completion notification (no real email sent)
+    @Transactional
+    public void sendTaskCompletedNotification(String taskTitle) {
+        enqueue(taskCompletedEvent(taskTitle));
+    }
+
+    // The outbox rows behind the two methods above, for callers that store them themselves
+    // (the reactive API writes them over R2DBC)
+    public NotificationOutboxEvent taskCreatedEvent(String taskTitle) {
         Map<String, Object> notification = new HashMap<>();
         notification.put("title", "New Task Created");
         notification.put("body", "Task '" + taskTitle + "' has been created");
         notification.put("userId", 1); // Mock user ID
-        
-        // Make async HTTP call to JSONPlaceholder (fake API for demonstration)
-        webClient.post()
-                .uri("/posts") // JSONPlaceholder endpoint - returns fake response
-                .bodyValue(notification)
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> 
-                    System.out.println("DEMO: External API call successful: " + response))
-                .doOnError(error -> 
-                    System.err.println("DEMO: External API call failed: " + error.getMessage()))
-                .subscribe(); // Fire and forget - don't wait for response
+
+        return newEvent("TASK_CREATED", notification);
     }
 
-    // DEMO: Simulate task completion notification (no real email sent)
-    public void sendTaskCompletedNotification(String taskTitle) {
+    public NotificationOutboxEvent taskCompletedEvent(String taskTitle) {
         Map<String, Object> notification = new HashMap<>();
         notification.put("title", "Task Completed");
         notification.put("body", "Task '" + taskTitle + "' has been completed");
         notification.put("userId", 1);
-        
-        webClient.post()
-                .uri("/posts")
-                .bodyValue(notification)
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> 
-                    System.out.println("Completion notification sent: " + response))
-                .doOnError(error -> 
-                    System.err.println("Failed to send completion notification: " + error.getMessage()))
-                .subscribe();
+
+        return newEvent("TASK_COMPLETED", notification);
+    }
+
+    // DEMO: One notification for a whole batch of created tasks instead of one per task
+    @Transactional
+    public void sendTasksCreatedNotification(List<String> taskTitles, String userEmail) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("title", "New Tasks Created");
+        notification.put("body", taskTitles.size() + " tasks have been created");
+        notification.put("tasks", taskTitles.subList(0, Math.min(taskTitles.size(), MAX_TITLES_PER_NOTIFICATION)));
+        notification.put("userId", 1);
+
+        enqueue(newEvent("TASKS_CREATED", notification));
+    }
+
+    // DEMO: One notification for a whole batch of completed tasks
+    @Transactional
+    public void sendTasksCompletedNotification(List<String> taskTitles) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("title", "Tasks Completed");
+        notification.put("body", taskTitles.size() + " tasks have been completed");
+        notification.put("tasks", taskTitles.subList(0, Math.min(taskTitles.size(), MAX_TITLES_PER_NOTIFICATION)));
+        notification.put("userId", 1);
+
+        enqueue(newEvent("TASKS_COMPLETED", notification));
+    }
+
+    // DEMO: One reminder for a batch of tasks that are about to fall due (see TaskReminderEngine)
+    @Transactional
+    public void sendTasksDueNotification(List<String> taskTitles) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("title", "Tasks Due Soon");
+        notification.put("body", taskTitles.size() + " tasks are due soon");
+        notification.put("tasks", taskTitles.subList(0, Math.min(taskTitles.size(), MAX_TITLES_PER_NOTIFICATION)));
+        notification.put("userId", 1);
+
+        enqueue(newEvent("TASKS_DUE", notification));
+    }
+
+    // Store the notification in the outbox and nudge the dispatcher once the transaction commits
+    private void enqueue(NotificationOutboxEvent event) {
+        outboxRepository.save(event);
+        notificationDispatcher.wakeUpAfterCommit();
     }
 
-    // Synchronous call example - get user info from external service
-    public String getUserInfo(Long userId) {
+    private NotificationOutboxEvent newEvent(String type, Map<String, Object> notification) {
         try {
-            return webClient.get()
-                    .uri("/users/{id}", userId)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(); // This blocks and waits for response
-        } catch (Exception e) {
-            System.err.println("Failed to get user info: " + e.getMessage());
-            return "Unknown User";
+            return new NotificationOutboxEvent(type, objectMapper.writeValueAsString(notification));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + type + " notification", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.cache.TaskPageCache;
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.example.taskmanagement.model.TaskRecord;
+import com.example.taskmanagement.notification.NotificationDispatcher;
+import com.example.taskmanagement.repository.PooledIdAllocator;
+import com.example.taskmanagement.repository.ReactiveNotificationOutboxRepository;
+import com.example.taskmanagement.repository.ReactiveTaskRepository;
+import com.example.taskmanagement.search.TaskSearchIndex;
+import com.example.taskmanagement.stats.TaskStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// Non-blocking counterpart of TaskService, behind the /api/v2 endpoints.
+//
+// Data access goes over R2DBC instead of JPA. Writes otherwise behave exactly like TaskService: they
+// queue the same outbox notifications in their transaction, and after commit they update the taskById
+// cache and publish TaskChangedEvent, so page caches, search index and stats stay in step for both APIs.
+@Service
+public class ReactiveTaskService {
+
+    @Autowired
+    private ReactiveTaskRepository taskRepository;
+
+    @Autowired
+    private ReactiveNotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private TaskPageCache taskPageCache;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // Task ids come from task_seq in blocks of 50, like Task's @SequenceGenerator
+    private final PooledIdAllocator taskIds = new PooledIdAllocator(() -> taskRepository.nextIdBlock(), 50, 1);
+
+    // Pages share the page cache with the blocking API
+    public Mono<CursorPage<TaskResponse>> getAllTasks(Long cursor, int size) {
+        return taskPageCache.get(CacheConfig.ALL_TASKS, null, cursor, size,
+                toPage(taskRepository.findResponsesAfter(cursor, size + 1), size));
+    }
+
+    public Mono<CursorPage<TaskResponse>> getCompletedTasks(Long cursor, int size) {
+        return taskPageCache.get(CacheConfig.COMPLETED_TASKS, null, cursor, size,
+                toPage(taskRepository.findResponsesByIsCompletedAfter(true, cursor, size + 1), size));
+    }
+
+    public Mono<CursorPage<TaskResponse>> getPendingTasks(Long cursor, int size) {
+        return taskPageCache.get(CacheConfig.PENDING_TASKS, null, cursor, size,
+                toPage(taskRepository.findResponsesByIsCompletedAfter(false, cursor, size + 1), size));
+    }
+
+    // Streams follow the subscriber's demand, so a slow client holds back the database read
+    public Flux<TaskResponse> streamAllTasks() {
+        return taskRepository.streamAllResponses();
+    }
+
+    public Flux<TaskResponse> streamCompletedTasks() {
+        return taskRepository.streamResponsesByIsCompleted(true);
+    }
+
+    public Flux<TaskResponse> streamPendingTasks() {
+        return taskRepository.streamResponsesByIsCompleted(false);
+    }
+
+    // Served from the taskById cache when the blocking API has it, otherwise read over R2DBC.
+    // Misses are not written back: TaskService fills the cache with sync = true so that a load can
+    // never race a delete, and there is no non-blocking equivalent of that here.
+    public Mono<TaskResponse> getTaskById(Long id) {
+        return Mono.defer(() -> {
+            Cache.ValueWrapper cached = taskByIdCache().get(id);
+            if (cached != null) {
+                return Mono.justOrEmpty((TaskResponse) cached.get());
+            }
+            return taskRepository.findResponseById(id);
+        });
+    }
+
+    // Search and stats are answered from memory already, so they don't block either
+    public Mono<TaskSearchResults> searchTasks(String query, int page, int size) {
+        return Mono.fromSupplier(() -> taskSearchIndex.search(query, page, size));
+    }
+
+    public Mono<TaskStatsResponse> getStats() {
+        return Mono.fromSupplier(() -> taskStatistics.snapshot());
+    }
+
+    // Insert the task and its "created" notification in one R2DBC transaction
+    public Mono<TaskResponse> createTask(TaskCreateRequest request) {
+        return taskIds.nextId()
+                .flatMap(id -> taskRepository.save(new TaskRecord(id, request.getTitle(), request.getDescription(),
+                        LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), request.getDueDate(), false)))
+                .map(taskMapper::toResponse)
+                .flatMap(created -> outboxRepository.insert(notificationService.taskCreatedEvent(created.getTitle()))
+                        .thenReturn(created))
+                .as(transactionalOperator::transactional)
+                .doOnNext(created -> {
+                    taskByIdCache().put(created.getId(), created);
+                    eventPublisher.publishEvent(TaskChangedEvent.created(created));
+                    notificationDispatcher.wakeUp();
+                });
+    }
+
+    // Update only the fields that are provided; empty when the task doesn't exist
+    public Mono<TaskResponse> updateTask(Long id, TaskUpdateRequest request) {
+        return taskRepository.findById(id)
+                .flatMap(record -> {
+                    TaskResponse before = taskMapper.toResponse(record);
+                    taskMapper.updateRecord(request, record);
+                    return taskRepository.save(record).flatMap(saved -> {
+                        TaskChangedEvent event = TaskChangedEvent.updated(before, taskMapper.toResponse(saved));
+                        if (!justCompleted(event)) {
+                            return Mono.just(event);
+                        }
+                        return outboxRepository.insert(notificationService.taskCompletedEvent(saved.getTitle()))
+                                .thenReturn(event);
+                    });
+                })
+                .as(transactionalOperator::transactional)
+                .doOnNext(event -> {
+                    taskByIdCache().put(id, event.getAfter());
+                    eventPublisher.publishEvent(event);
+                    if (justCompleted(event)) {
+                        notificationDispatcher.wakeUp();
+                    }
+                })
+                .map(TaskChangedEvent::getAfter);
+    }
+
+    // Delete a task - true if it existed
+    public Mono<Boolean> deleteTask(Long id) {
+        return taskRepository.findResponseById(id)
+                .flatMap(before -> taskRepository.deleteById(id).thenReturn(before))
+                .as(transactionalOperator::transactional)
+                .doOnNext(before -> {
+                    taskByIdCache().evict(id);
+                    eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
+                })
+                .hasElement();
+    }
+
+    private Mono<CursorPage<TaskResponse>> toPage(Flux<TaskResponse> rows, int size) {
+        return rows.collectList().map(list -> CursorPage.of(list, size, TaskResponse::getId));
+    }
+
+    private static boolean justCompleted(TaskChangedEvent event) {
+        return !Boolean.TRUE.equals(event.getBefore().getIsCompleted())
+                && Boolean.TRUE.equals(event.getAfter().getIsCompleted());
+    }
+
+    private Cache taskByIdCache() {
+        return cacheManager.getCache(CacheConfig.TASK_BY_ID);
+    }
+}
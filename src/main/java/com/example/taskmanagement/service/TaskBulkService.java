@@ -0,0 +1,345 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.dto.BulkItemResult;
+import com.example.taskmanagement.dto.BulkResponse;
+import com.example.taskmanagement.dto.ImportReport;
+import com.example.taskmanagement.dto.TaskBulkUpdateRequest;
+import com.example.taskmanagement.dto.TaskCreateRequest;
+import com.example.taskmanagement.dto.TaskImportRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.transfer.ImportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Bulk create/update/delete of tasks.
+// Items are validated in one pass up front, then written in chunks - one transaction per chunk,
+// with Hibernate sending the INSERT/UPDATE statements in JDBC batches. A failing chunk is
+// rolled back and reported without affecting the chunks before or after it.
+// Each chunk records one coalesced notification in the outbox, in the same transaction.
+// File imports (importTasks) use the same chunked writes, streaming rows in instead of taking a list.
+@Service
+public class TaskBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBulkService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Cache taskByIdCache;
+
+    // Number of items written per transaction
+    @Value("${tasks.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    // Failed rows listed in an import report (all of them are counted)
+    @Value("${tasks.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public TaskBulkService(CacheManager cacheManager) {
+        this.taskByIdCache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+    }
+
+    // Create many tasks at once
+    public BulkResponse createTasks(List<TaskCreateRequest> requests) {
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Integer> valid = validate(requests, results, null);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                List<Task> saved = insert(chunk.stream().map(requests::get).toList(), true);
+                for (int i = 0; i < chunk.size(); i++) {
+                    Task task = saved.get(i);
+                    results[chunk.get(i)] = BulkItemResult.success(chunk.get(i), task.getId(), BulkItemResult.Status.CREATED);
+                }
+            } catch (RuntimeException e) {
+                failChunk(chunk, results, index -> null, e);
+            }
+        }
+        return new BulkResponse(Arrays.asList(results));
+    }
+
+    // Create tasks from an import file, reading it as we go: rows are validated one by one and
+    // written a chunk at a time, so only one chunk is ever held in memory. Chunks already written
+    // stay written if the file turns out to be broken further down (or the client disconnects).
+    // Imports don't send "created" notifications - a migration shouldn't mail everyone. Import only
+    // creates: every row becomes a new task, whatever id it had in the file.
+    public ImportReport importTasks(Iterator<ImportRow> rows) {
+        ImportCounts counts = new ImportCounts();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            counts.total++;
+            Map<String, String> errors = row.errors() != null ? row.errors() : violations(row.request());
+            if (!errors.isEmpty()) {
+                counts.fail(BulkItemResult.failure(row.index(), null, BulkItemResult.Status.INVALID, errors));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, counts);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, counts);
+        }
+        return new ImportReport(counts.total, counts.imported, counts.failed, counts.errors,
+                counts.failed > counts.errors.size());
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportCounts counts) {
+        try {
+            insert(chunk.stream().map(ImportRow::request).toList(), false);
+            counts.imported += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Import chunk of {} rows failed: {}", chunk.size(), e.getMessage());
+            for (ImportRow row : chunk) {
+                counts.fail(BulkItemResult.failure(row.index(), null, BulkItemResult.Status.FAILED,
+                        Map.of("message", String.valueOf(e.getMessage()))));
+            }
+        }
+    }
+
+    // Insert one chunk of tasks in its own transaction. Bulk creates also put the new tasks in the
+    // taskById cache and record one coalesced notification; imports (notify = false) do neither.
+    private List<Task> insert(List<? extends TaskCreateRequest> requests, boolean notify) {
+        return transactionTemplate.execute(status -> {
+            List<Task> tasks = new ArrayList<>(requests.size());
+            for (TaskCreateRequest request : requests) {
+                Task task = taskMapper.toEntity(request);
+                // Microseconds, as the database stores them, so the cached copy matches the row
+                task.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+                task.setIsCompleted(false);
+                // An imported row keeps the state it was exported with
+                if (request instanceof TaskImportRequest imported) {
+                    if (imported.getCreatedAt() != null) {
+                        task.setCreatedAt(imported.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+                    }
+                    if (imported.getIsCompleted() != null) {
+                        task.setIsCompleted(imported.getIsCompleted());
+                    }
+                }
+                tasks.add(task);
+            }
+            taskRepository.saveAll(tasks);
+            for (Task task : tasks) {
+                TaskResponse created = taskMapper.toResponse(task);
+                if (notify) {
+                    taskByIdCache.put(task.getId(), created);
+                }
+                eventPublisher.publishEvent(TaskChangedEvent.created(created));
+            }
+            if (notify) {
+                // One notification for the whole chunk instead of one per task
+                notificationService.sendTasksCreatedNotification(
+                        tasks.stream().map(Task::getTitle).toList(), "user@example.com");
+            }
+            // Inserts go out as JDBC batches here; then drop the entities from memory
+            entityManager.flush();
+            entityManager.clear();
+            return tasks;
+        });
+    }
+
+    // Update many tasks at once - only the fields sent for each item are changed
+    public BulkResponse updateTasks(List<TaskBulkUpdateRequest> requests) {
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Integer> valid = validate(requests, results, TaskBulkUpdateRequest::getId);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<String> completedTitles = new ArrayList<>();
+                    Set<Long> ids = chunk.stream().map(index -> requests.get(index).getId()).collect(Collectors.toSet());
+                    Map<Long, Task> found = taskRepository.findAllById(ids).stream()
+                            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+                    List<Task> updated = new ArrayList<>(chunk.size());
+                    List<TaskResponse> befores = new ArrayList<>(chunk.size());
+                    for (Integer index : chunk) {
+                        TaskBulkUpdateRequest request = requests.get(index);
+                        Task task = found.get(request.getId());
+                        if (task == null) {
+                            results[index] = BulkItemResult.failure(index, request.getId(), BulkItemResult.Status.NOT_FOUND, null);
+                            continue;
+                        }
+                        TaskResponse before = taskMapper.toResponse(task);
+                        taskMapper.updateEntity(request, task);
+                        if (!before.getIsCompleted() && task.getIsCompleted()) {
+                            completedTitles.add(task.getTitle());
+                        }
+                        updated.add(task);
+                        befores.add(before);
+                        results[index] = BulkItemResult.success(index, task.getId(), BulkItemResult.Status.UPDATED);
+                    }
+                    if (!completedTitles.isEmpty()) {
+                        notificationService.sendTasksCompletedNotification(completedTitles);
+                    }
+                    // Dirty tasks are flushed as batched UPDATE statements, which also bumps their versions
+                    entityManager.flush();
+                    for (int i = 0; i < updated.size(); i++) {
+                        TaskResponse after = taskMapper.toResponse(updated.get(i));
+                        taskByIdCache.put(after.getId(), after);
+                        eventPublisher.publishEvent(TaskChangedEvent.updated(befores.get(i), after));
+                    }
+                    entityManager.clear();
+                });
+            } catch (RuntimeException e) {
+                failChunk(chunk, results, index -> requests.get(index).getId(), e);
+            }
+        }
+        return new BulkResponse(Arrays.asList(results));
+    }
+
+    // Delete many tasks at once
+    public BulkResponse deleteTasks(List<Long> ids) {
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = BulkItemResult.failure(i, null, BulkItemResult.Status.INVALID, Map.of("id", "Id is required"));
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Set<Long> chunkIds = chunk.stream().map(ids::get).collect(Collectors.toSet());
+                    Map<Long, Task> found = taskRepository.findAllById(chunkIds).stream()
+                            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+                    // A single DELETE ... WHERE id = ? OR id = ? ... for the whole chunk
+                    taskRepository.deleteAllInBatch(found.values());
+                    for (Task task : found.values()) {
+                        taskByIdCache.evict(task.getId());
+                        eventPublisher.publishEvent(TaskChangedEvent.deleted(taskMapper.toResponse(task)));
+                    }
+                    entityManager.clear();
+
+                    for (Integer index : chunk) {
+                        Long id = ids.get(index);
+                        results[index] = found.containsKey(id)
+                                ? BulkItemResult.success(index, id, BulkItemResult.Status.DELETED)
+                                : BulkItemResult.failure(index, id, BulkItemResult.Status.NOT_FOUND, null);
+                    }
+                });
+            } catch (RuntimeException e) {
+                failChunk(chunk, results, ids::get, e);
+            }
+        }
+        return new BulkResponse(Arrays.asList(results));
+    }
+
+    // Validate every item in one pass. Invalid items get an INVALID result, the indexes of
+    // the valid ones are returned so they can be written.
+    private <T> List<Integer> validate(List<T> requests, BulkItemResult[] results, Function<T, Long> idOf) {
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            T request = requests.get(i);
+            Long id = idOf != null && request != null ? idOf.apply(request) : null;
+            if (request == null) {
+                results[i] = BulkItemResult.failure(i, null, BulkItemResult.Status.INVALID, Map.of("item", "Item is required"));
+                continue;
+            }
+            Map<String, String> fieldErrors = violations(request);
+            if (fieldErrors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = BulkItemResult.failure(i, id, BulkItemResult.Status.INVALID, fieldErrors);
+            }
+        }
+        return valid;
+    }
+
+    // Constraint violations of one item as field -> message (empty when it is valid)
+    private <T> Map<String, String> violations(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> fieldErrors = new HashMap<>();
+        violations.forEach(violation ->
+            fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return fieldErrors;
+    }
+
+    // Mark every item of a rolled back chunk as FAILED
+    private void failChunk(List<Integer> chunk, BulkItemResult[] results, Function<Integer, Long> idOf, RuntimeException e) {
+        log.warn("Bulk chunk of {} items failed: {}", chunk.size(), e.getMessage());
+        for (Integer index : chunk) {
+            results[index] = BulkItemResult.failure(index, idOf.apply(index), BulkItemResult.Status.FAILED,
+                    Map.of("message", String.valueOf(e.getMessage())));
+        }
+    }
+
+    // Running totals of an import; only the first maxReportedErrors failures are kept
+    private class ImportCounts {
+        private int total;
+        private int imported;
+        private int failed;
+        private final List<BulkItemResult> errors = new ArrayList<>();
+
+        private void fail(BulkItemResult result) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(result);
+            }
+        }
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int start = 0; start < indexes.size(); start += chunkSize) {
+            chunks.add(indexes.subList(start, Math.min(start + chunkSize, indexes.size())));
+        }
+        return chunks;
+    }
+}
@@ -1,52 +1,133 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.archive.TaskArchiver;
+import com.example.taskmanagement.cache.TaskPageCache;
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskQueryPage;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+import com.example.taskmanagement.dto.TaskSearchResults;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.exception.TaskVersionMismatchException;
+import com.example.taskmanagement.mapper.TaskMapper;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.query.TaskQuery;
+import com.example.taskmanagement.query.TaskQueryExecutor;
 import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.search.TaskSearchIndex;
+import com.example.taskmanagement.stats.TaskStatistics;
+import com.example.taskmanagement.store.TaskColumnStore;
+import com.example.taskmanagement.writebehind.TaskWriteBehind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 // This annotation tells Spring this is a service class (business logic)
 @Service
 public class TaskService {
 
+    private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+
     @Autowired
     private TaskRepository taskRepository;
     
     @Autowired
     private NotificationService notificationService;
 
-    // Get all tasks - cache the result for better performance
-    @Cacheable(value = "tasks", key = "'all'")
-    public List<Task> getAllTasks() {
-        System.out.println("Fetching all tasks from database (not cached)");
-        return taskRepository.findAll();
+    @Autowired
+    private TaskPageCache taskPageCache;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private TaskColumnStore taskColumnStore;
+
+    @Autowired
+    private TaskQueryExecutor taskQueryExecutor;
+
+    @Autowired
+    private TaskWriteBehind taskWriteBehind;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Get one page of tasks after the cursor - each page is cached and invalidated on its own
+    // (or read straight from the column store when it is enabled)
+    public CursorPage<TaskResponse> getAllTasks(Long cursor, int size) {
+        if (taskColumnStore.isReady()) {
+            return taskColumnStore.page(cursor, size, null);
+        }
+        return taskPageCache.get(CacheConfig.ALL_TASKS, null, cursor, size, () -> {
+            log.debug("Fetching tasks page after {} from database (not cached)", cursor);
+            return toPage(taskRepository.findResponsesAfter(cursor, Limit.of(size + 1)), size);
+        });
+    }
+
+    // Same page with archived tasks merged in when asked for. Those pages come straight from the
+    // database: the page cache and the column store only hold active tasks.
+    public CursorPage<TaskResponse> getAllTasks(Long cursor, int size, boolean includeArchived) {
+        return includeArchived ? taskArchiver.pageIncludingArchived(false, cursor, size) : getAllTasks(cursor, size);
     }
 
-    // Get task by ID - cache individual tasks
-    @Cacheable(value = "tasks", key = "#id")
-    public Optional<Task> getTaskById(Long id) {
-        System.out.println("Fetching task " + id + " from database (not cached)");
-        return taskRepository.findById(id);
+    // Get task by ID - cache individual tasks, including "not found" results.
+    // sync = true loads inside the cache entry, so a write-through put that races with
+    // this load always wins and we never cache a stale task.
+    // With the column store loaded, the cache is bypassed: the store already holds every task.
+    @Cacheable(value = CacheConfig.TASK_BY_ID, key = "#id", sync = true, condition = "!@taskColumnStore.ready")
+    public Optional<TaskResponse> getTaskById(Long id) {
+        if (taskColumnStore.isReady()) {
+            return taskColumnStore.get(id);
+        }
+        log.debug("Fetching task {} from database (not cached)", id);
+        return taskRepository.findResponseById(id);
     }
 
-    // Create a new task
-    public Task createTask(Task task) {
-        // Set creation time automatically
-        task.setCreatedAt(LocalDateTime.now());
+    // Create a new task - the new task is written straight into the cache after commit
+    @Transactional
+    @CachePut(value = CacheConfig.TASK_BY_ID, key = "#result.id")
+    public TaskResponse createTask(Task task) {
+        // Set creation time automatically, at the database's microsecond precision - the cached copy
+        // must read the same as the row does after an eviction
+        task.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
         
+        // New tasks always start at version 0, whatever the client sent
+        task.setVersion(null);
+
         // Set default completion status if not provided
         if (task.getIsCompleted() == null) {
             task.setIsCompleted(false);
         }
         
         Task savedTask = taskRepository.save(task);
+        TaskResponse created = taskMapper.toResponse(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
         
         // Send notification after task is created
         notificationService.sendTaskCreatedNotification(
@@ -54,17 +135,15 @@ public class TaskService {
             "user@example.com" // Mock email
         );
         
-        return savedTask;
+        return created;
     }
 
-    // Update an existing task
-    public Optional<Task> updateTask(Long id, Task taskDetails) {
-        Optional<Task> optionalTask = taskRepository.findById(id);
-        
-        if (optionalTask.isPresent()) {
-            Task existingTask = optionalTask.get();
-            boolean wasCompleted = existingTask.getIsCompleted();
-            
+    // Update an existing task - the cache entry is replaced after commit (or marked missing).
+    // expectedVersions comes from If-Match: when given, the task must still be at one of them.
+    @Transactional
+    @CachePut(value = CacheConfig.TASK_BY_ID, key = "#id")
+    public Optional<TaskResponse> updateTask(Long id, Task taskDetails, List<Long> expectedVersions) {
+        return applyUpdate(id, expectedVersions, existingTask -> {
             // Update only the fields that are provided
             if (taskDetails.getTitle() != null) {
                 existingTask.setTitle(taskDetails.getTitle());
@@ -78,41 +157,173 @@ public class TaskService {
             if (taskDetails.getIsCompleted() != null) {
                 existingTask.setIsCompleted(taskDetails.getIsCompleted());
             }
+        });
+    }
+
+    // Partial update - only the fields in the request change, and thanks to @DynamicUpdate
+    // on Task the UPDATE statement only sets those columns (plus the version)
+    @Transactional
+    @CachePut(value = CacheConfig.TASK_BY_ID, key = "#id")
+    public Optional<TaskResponse> patchTask(Long id, TaskUpdateRequest request, List<Long> expectedVersions) {
+        return applyUpdate(id, expectedVersions, existingTask -> taskMapper.updateEntity(request, existingTask));
+    }
+
+    private Optional<TaskResponse> applyUpdate(Long id, List<Long> expectedVersions, Consumer<Task> changes) {
+        Optional<Task> optionalTask = taskRepository.findById(id);
+        
+        if (optionalTask.isPresent()) {
+            Task existingTask = optionalTask.get();
+            TaskResponse before = taskMapper.toResponse(existingTask);
+            checkVersion(before, expectedVersions);
+            boolean wasCompleted = existingTask.getIsCompleted();
+
+            changes.accept(existingTask);
             
-            Task updatedTask = taskRepository.save(existingTask);
+            // Flush now so the version is bumped (and a concurrent write detected) before we build the response
+            Task updatedTask = taskRepository.saveAndFlush(existingTask);
+            TaskResponse after = taskMapper.toResponse(updatedTask);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, after));
             
             // Send notification if task was just completed
             if (!wasCompleted && updatedTask.getIsCompleted()) {
                 notificationService.sendTaskCompletedNotification(updatedTask.getTitle());
             }
             
-            return Optional.of(updatedTask);
+            return Optional.of(after);
         }
         
         return Optional.empty();
     }
 
-    // Delete a task
-    public boolean deleteTask(Long id) {
-        if (taskRepository.existsById(id)) {
-            taskRepository.deleteById(id);
+    // Delete a task - evicted from the cache after commit
+    @Transactional
+    @CacheEvict(value = CacheConfig.TASK_BY_ID, key = "#id")
+    public boolean deleteTask(Long id, List<Long> expectedVersions) {
+        Optional<Task> task = taskRepository.findById(id);
+        if (task.isPresent()) {
+            TaskResponse before = taskMapper.toResponse(task.get());
+            checkVersion(before, expectedVersions);
+            taskRepository.delete(task.get());
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
             return true;
         }
         return false;
     }
 
-    // Get completed tasks
-    public List<Task> getCompletedTasks() {
-        return taskRepository.findByIsCompleted(true);
+    // Write-behind (tasks.write-behind.enabled): single-task writes are queued, merged with other
+    // writes to the same task and committed in batches. The future completes after the commit,
+    // with the same result as updateTask/patchTask/deleteTask (the deleted task for a delete).
+    public boolean isWriteBehindEnabled() {
+        return taskWriteBehind.isRunning();
     }
 
-    // Get pending tasks
-    public List<Task> getPendingTasks() {
-        return taskRepository.findByIsCompleted(false);
+    public CompletableFuture<Optional<TaskResponse>> queueUpdate(Long id, Task taskDetails) {
+        return taskWriteBehind.update(id, taskMapper.toUpdateRequest(taskDetails));
+    }
+
+    public CompletableFuture<Optional<TaskResponse>> queuePatch(Long id, TaskUpdateRequest request) {
+        return taskWriteBehind.update(id, request);
+    }
+
+    public CompletableFuture<Optional<TaskResponse>> queueDelete(Long id) {
+        return taskWriteBehind.delete(id);
+    }
+
+    // Commit whatever is queued for the task, so a conditional write checks the version it will really have
+    public void flushQueuedWrites(Long id) {
+        taskWriteBehind.flush(id);
+    }
+
+    // null means the request was unconditional
+    private void checkVersion(TaskResponse current, List<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(current.getVersion())) {
+            throw new TaskVersionMismatchException(current);
+        }
+    }
+
+    // Get a page of completed tasks
+    public CursorPage<TaskResponse> getCompletedTasks(Long cursor, int size) {
+        if (taskColumnStore.isReady()) {
+            return taskColumnStore.page(cursor, size, true);
+        }
+        return taskPageCache.get(CacheConfig.COMPLETED_TASKS, null, cursor, size, () ->
+                toPage(taskRepository.findResponsesByIsCompletedAfter(true, cursor, Limit.of(size + 1)), size));
+    }
+
+    // Completed tasks including archived ones (always from the database, like getAllTasks above)
+    public CursorPage<TaskResponse> getCompletedTasks(Long cursor, int size, boolean includeArchived) {
+        return includeArchived ? taskArchiver.pageIncludingArchived(true, cursor, size) : getCompletedTasks(cursor, size);
+    }
+
+    // Get a page of pending tasks
+    public CursorPage<TaskResponse> getPendingTasks(Long cursor, int size) {
+        if (taskColumnStore.isReady()) {
+            return taskColumnStore.page(cursor, size, false);
+        }
+        return taskPageCache.get(CacheConfig.PENDING_TASKS, null, cursor, size, () ->
+                toPage(taskRepository.findResponsesByIsCompletedAfter(false, cursor, Limit.of(size + 1)), size));
+    }
+
+    // Get a page of pending tasks due in [from, to) - from may be null to include everything overdue
+    public CursorPage<TaskResponse> getPendingTasksDueBetween(LocalDateTime from, LocalDateTime to, Long cursor, int size) {
+        if (taskColumnStore.isReady()) {
+            return taskColumnStore.pagePendingDueBetween(from, to, cursor, size);
+        }
+        return toPage(taskRepository.findPendingResponsesDueBetweenAfter(from, to, cursor, Limit.of(size + 1)), size);
+    }
+
+    // An archived task by ID (not cached - archived tasks are read rarely)
+    public Optional<TaskResponse> getArchivedTask(Long id) {
+        return taskArchiver.getArchived(id);
+    }
+
+    // Move an archived task back to the active tasks; empty if it isn't archived
+    public Optional<TaskResponse> restoreTask(Long id) {
+        return taskArchiver.restore(id);
+    }
+
+    // Any combination of filters, sorted, with only the requested fields (always from the database)
+    public TaskQueryPage queryTasks(TaskQuery query) {
+        return taskQueryExecutor.execute(query);
+    }
+
+    // Full-text search over title and description, best matches first (served from the search index)
+    public TaskSearchResults searchTasks(String query, int page, int size) {
+        return taskSearchIndex.search(query, page, size);
+    }
+
+    // Dashboard counts, served from the in-memory counters (no database query)
+    public TaskStatsResponse getStats() {
+        return taskStatistics.snapshot();
+    }
+
+    // Stream every task to the consumer without holding the whole table in memory.
+    // Rows are projected into DTOs, so nothing accumulates in the persistence context.
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<TaskResponse> consumer) {
+        drain(taskRepository.streamAllResponses(), consumer);
+    }
+
+    // Stream completed tasks
+    @Transactional(readOnly = true)
+    public void streamCompletedTasks(Consumer<TaskResponse> consumer) {
+        drain(taskRepository.streamResponsesByIsCompleted(true), consumer);
+    }
+
+    // Stream pending tasks
+    @Transactional(readOnly = true)
+    public void streamPendingTasks(Consumer<TaskResponse> consumer) {
+        drain(taskRepository.streamResponsesByIsCompleted(false), consumer);
+    }
+
+    // Hand each row to the consumer and close the cursor when done
+    private void drain(Stream<TaskResponse> tasks, Consumer<TaskResponse> consumer) {
+        try (tasks) {
+            tasks.forEach(consumer);
+        }
     }
 
-    // Search tasks by title
-    public List<Task> searchTasksByTitle(String title) {
-        return taskRepository.findByTitleContainingIgnoreCase(title);
+    private CursorPage<TaskResponse> toPage(List<TaskResponse> rows, int size) {
+        return CursorPage.of(rows, size, TaskResponse::getId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.example.taskmanagement.stats;
+
+import com.example.taskmanagement.config.TaskStatsProperties;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Task counts for the dashboard, kept in memory so /api/tasks/stats never touches the database.
+//
+// Every committed write adjusts the counters through TaskChangedEvent (remove the task's old
+// contribution, add the new one). Pending tasks are also counted per due-date minute, so overdue and
+// "due within N days" are range sums over that map. Those sums are kept as running totals for the
+// minute they were last read at; a snapshot slides them forward over just the buckets that time has
+// passed, so it costs the same however many due dates there are. A periodic reconciliation recounts
+// from the database to correct any drift.
+@Component
+public class TaskStatistics implements ApplicationRunner, SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskStatsProperties properties;
+    private final TransactionTemplate snapshotTransaction;
+
+    // All guarded by "this" - updates are one per committed write, reads one per dashboard call
+    private long total;
+    private long completed;
+    private NavigableMap<LocalDateTime, Long> pendingByDueMinute = new TreeMap<>();
+    private LocalDateTime reconciledAt;
+
+    // Range sums over pendingByDueMinute as of the minute "countedAt": overdue counts the buckets
+    // before it, dueWithin[i] those in [countedAt, countedAt + dueWithinDays[i] days)
+    private final int[] dueWithinDays;
+    private final long[] dueWithin;
+    private LocalDateTime countedAt = minute(LocalDateTime.now());
+    private long overdue;
+
+    // Bumped by every applied change, so reconciliation can tell whether writes raced with it
+    private long generation;
+    private int skippedReconciles;
+
+    public TaskStatistics(TaskRepository taskRepository, TaskStatsProperties properties,
+                          PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.properties = properties;
+        this.dueWithinDays = properties.getDueWithinDays().stream().mapToInt(Integer::intValue).toArray();
+        this.dueWithin = new long[dueWithinDays.length];
+
+        // All counting queries read the same snapshot
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // Load the counters once the application has started
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile(true);
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        remove(event.getBefore());
+        add(event.getAfter());
+        generation++;
+    }
+
+    // Current counts; overdue and due-soon are measured against "now" at minute resolution
+    public synchronized TaskStatsResponse snapshot() {
+        slideTo(minute(LocalDateTime.now()));
+        Map<String, Long> dueSoon = new LinkedHashMap<>();
+        for (int i = 0; i < dueWithinDays.length; i++) {
+            dueSoon.put(String.valueOf(dueWithinDays[i]), dueWithin[i]);
+        }
+        return new TaskStatsResponse(total, completed, total - completed, overdue, dueSoon, reconciledAt);
+    }
+
+    // Recount every tasks.stats.reconcile-interval (registered here so the interval is the bound Duration)
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        Duration interval = properties.getReconcileInterval();
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> reconcile(false), interval, interval));
+    }
+
+    // Recount from the database. The counts come from one snapshot, but writes may commit while we
+    // read it; if any did, our numbers may already be behind the live counters, so we keep the live
+    // ones - unless we have skipped too often in a row, in which case the recount wins.
+    private void reconcile(boolean force) {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+
+        Counts counts = snapshotTransaction.execute(status -> {
+            Counts c = new Counts();
+            c.total = taskRepository.count();
+            c.completed = taskRepository.countByIsCompleted(true);
+            try (Stream<LocalDateTime> dueDates = taskRepository.streamPendingDueDates()) {
+                dueDates.forEach(dueDate -> c.pendingByDueMinute.merge(minute(dueDate), 1L, Long::sum));
+            }
+            return c;
+        });
+
+        synchronized (this) {
+            boolean raced = generation != startGeneration;
+            if (raced && !force && ++skippedReconciles <= properties.getMaxSkippedReconciles()) {
+                log.debug("Skipping stats reconciliation, {} writes landed while counting", generation - startGeneration);
+                return;
+            }
+            if (total != counts.total || completed != counts.completed || !pendingByDueMinute.equals(counts.pendingByDueMinute)) {
+                log.info("Task stats drifted (total {} -> {}, completed {} -> {}), using database counts",
+                        total, counts.total, completed, counts.completed);
+            }
+            total = counts.total;
+            completed = counts.completed;
+            pendingByDueMinute = counts.pendingByDueMinute;
+            recountRanges(minute(LocalDateTime.now()));
+            reconciledAt = LocalDateTime.now();
+            skippedReconciles = 0;
+        }
+    }
+
+    private void add(TaskResponse task) {
+        if (task == null) {
+            return;
+        }
+        total++;
+        if (Boolean.TRUE.equals(task.getIsCompleted())) {
+            completed++;
+        } else if (task.getDueDate() != null) {
+            LocalDateTime minute = minute(task.getDueDate());
+            pendingByDueMinute.merge(minute, 1L, Long::sum);
+            countInRanges(minute, 1);
+        }
+    }
+
+    private void remove(TaskResponse task) {
+        if (task == null) {
+            return;
+        }
+        total--;
+        if (Boolean.TRUE.equals(task.getIsCompleted())) {
+            completed--;
+        } else if (task.getDueDate() != null) {
+            // Drop the bucket when it reaches zero so the map only holds minutes that have tasks
+            LocalDateTime minute = minute(task.getDueDate());
+            if (pendingByDueMinute.containsKey(minute)) {
+                pendingByDueMinute.computeIfPresent(minute, (key, count) -> count > 1 ? count - 1 : null);
+                countInRanges(minute, -1);
+            }
+        }
+    }
+
+    // A bucket changed by delta - update the range sums it falls into
+    private void countInRanges(LocalDateTime minute, long delta) {
+        if (minute.isBefore(countedAt)) {
+            overdue += delta;
+            return;
+        }
+        for (int i = 0; i < dueWithinDays.length; i++) {
+            if (minute.isBefore(countedAt.plusDays(dueWithinDays[i]))) {
+                dueWithin[i] += delta;
+            }
+        }
+    }
+
+    // Move the range sums to another minute, visiting only the buckets between the old and new bounds
+    private void slideTo(LocalDateTime now) {
+        if (now.equals(countedAt)) {
+            return;
+        }
+        long passed = sumBetween(countedAt, now);
+        overdue += passed;
+        for (int i = 0; i < dueWithinDays.length; i++) {
+            dueWithin[i] += sumBetween(countedAt.plusDays(dueWithinDays[i]), now.plusDays(dueWithinDays[i])) - passed;
+        }
+        countedAt = now;
+    }
+
+    // Range sums from scratch, after the buckets have been replaced
+    private void recountRanges(LocalDateTime now) {
+        countedAt = now;
+        overdue = sum(pendingByDueMinute.headMap(now, false));
+        for (int i = 0; i < dueWithinDays.length; i++) {
+            dueWithin[i] = sum(pendingByDueMinute.subMap(now, true, now.plusDays(dueWithinDays[i]), false));
+        }
+    }
+
+    // Sum of the buckets in [from, to), negated when "to" is before "from" (the clock went back)
+    private long sumBetween(LocalDateTime from, LocalDateTime to) {
+        return from.isBefore(to) ? sum(pendingByDueMinute.subMap(from, true, to, false))
+                : -sum(pendingByDueMinute.subMap(to, true, from, false));
+    }
+
+    private static LocalDateTime minute(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static long sum(Map<LocalDateTime, Long> buckets) {
+        long sum = 0;
+        for (long count : buckets.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    private static class Counts {
+        private long total;
+        private long completed;
+        private final NavigableMap<LocalDateTime, Long> pendingByDueMinute = new TreeMap<>();
+    }
+}
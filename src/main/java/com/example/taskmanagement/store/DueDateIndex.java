@@ -0,0 +1,188 @@
+package com.example.taskmanagement.store;
+
+// Pending tasks in due-date order, for the due-date range pages of TaskColumnStore.
+//
+// Entries are (due, id) pairs in two parallel arrays sorted by due date then id, plus an unsorted
+// tail of recent additions that is merged in once it is full. Entries are never removed in place:
+// one goes stale when its task is completed, deleted or given another due date, and the owner
+// checks every candidate against its columns. Merging drops the stale entries (and duplicates),
+// and a merge is forced once a quarter of the entries are stale. Not thread-safe - the owner locks.
+final class DueDateIndex {
+
+    // Whether an entry still describes a live pending task with that due date
+    interface Liveness {
+        boolean isLive(long due, long id);
+    }
+
+    // Receives the entries of a due-date range
+    interface EntryConsumer {
+        void accept(long due, long id);
+    }
+
+    private static final int MIN_TAIL_CAPACITY = 4096;
+
+    private final Liveness liveness;
+
+    // Sorted part
+    private long[] dues = new long[0];
+    private long[] ids = new long[0];
+    private int size;
+
+    // Recent additions, in arrival order. Grows with the sorted part so merges stay amortized O(1)
+    // per addition, while a range read still scans only a small fraction of the entries.
+    private long[] tailDues = new long[MIN_TAIL_CAPACITY];
+    private long[] tailIds = new long[MIN_TAIL_CAPACITY];
+    private int tailSize;
+
+    private int stale;
+
+    DueDateIndex(Liveness liveness) {
+        this.liveness = liveness;
+    }
+
+    void add(long due, long id) {
+        if (tailSize == tailDues.length) {
+            merge();
+        }
+        tailDues[tailSize] = due;
+        tailIds[tailSize] = id;
+        tailSize++;
+    }
+
+    // An entry added earlier no longer holds
+    void markStale() {
+        stale++;
+        if (stale > MIN_TAIL_CAPACITY && stale > (size + tailSize) / 4) {
+            merge();
+        }
+    }
+
+    // Replace everything with the first "count" entries of the given arrays (in any order)
+    void reset(long[] newDues, long[] newIds, int count) {
+        sort(newDues, newIds, count);
+        dues = newDues;
+        ids = newIds;
+        size = count;
+        tailSize = 0;
+        stale = 0;
+        resizeTail();
+    }
+
+    // Upper bound on the live entries with lower <= due < upper (stale entries are counted too)
+    int countBetween(long lower, long upper) {
+        return lowerBound(upper) - lowerBound(lower) + tailSize;
+    }
+
+    // Every entry with lower <= due < upper, stale ones included: the sorted part in (due, id)
+    // order, then the tail in no particular order
+    void forEachBetween(long lower, long upper, EntryConsumer consumer) {
+        for (int i = lowerBound(lower), end = lowerBound(upper); i < end; i++) {
+            consumer.accept(dues[i], ids[i]);
+        }
+        for (int i = 0; i < tailSize; i++) {
+            if (tailDues[i] >= lower && tailDues[i] < upper) {
+                consumer.accept(tailDues[i], tailIds[i]);
+            }
+        }
+    }
+
+    long heapBytes() {
+        return 8L * (dues.length + ids.length + tailDues.length + tailIds.length);
+    }
+
+    // Sort the tail into the sorted part, keeping only live entries, each once
+    private void merge() {
+        sort(tailDues, tailIds, tailSize);
+        long[] mergedDues = new long[size + tailSize];
+        long[] mergedIds = new long[size + tailSize];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < tailSize) {
+            long due;
+            long id;
+            if (j == tailSize || (i < size && compare(dues[i], ids[i], tailDues[j], tailIds[j]) <= 0)) {
+                due = dues[i];
+                id = ids[i++];
+            } else {
+                due = tailDues[j];
+                id = tailIds[j++];
+            }
+            boolean duplicate = n > 0 && mergedDues[n - 1] == due && mergedIds[n - 1] == id;
+            if (!duplicate && liveness.isLive(due, id)) {
+                mergedDues[n] = due;
+                mergedIds[n] = id;
+                n++;
+            }
+        }
+        dues = mergedDues;
+        ids = mergedIds;
+        size = n;
+        tailSize = 0;
+        stale = 0;
+        resizeTail();
+    }
+
+    private void resizeTail() {
+        int capacity = Math.max(MIN_TAIL_CAPACITY, size >>> 6);
+        if (capacity != tailDues.length) {
+            tailDues = new long[capacity];
+            tailIds = new long[capacity];
+        }
+    }
+
+    // First position in the sorted part whose due date is >= due
+    private int lowerBound(long due) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (dues[mid] < due) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int compare(long dueA, long idA, long dueB, long idB) {
+        int byDue = Long.compare(dueA, dueB);
+        return byDue != 0 ? byDue : Long.compare(idA, idB);
+    }
+
+    // Sort the first n pairs by (due, id) - a bottom-up merge sort over the two arrays
+    private static void sort(long[] dues, long[] ids, int n) {
+        long[] fromDues = dues;
+        long[] fromIds = ids;
+        long[] toDues = new long[n];
+        long[] toIds = new long[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int a = lo;
+                int b = mid;
+                for (int k = lo; k < hi; k++) {
+                    if (b >= hi || (a < mid && compare(fromDues[a], fromIds[a], fromDues[b], fromIds[b]) <= 0)) {
+                        toDues[k] = fromDues[a];
+                        toIds[k] = fromIds[a++];
+                    } else {
+                        toDues[k] = fromDues[b];
+                        toIds[k] = fromIds[b++];
+                    }
+                }
+            }
+            long[] swapDues = fromDues;
+            fromDues = toDues;
+            toDues = swapDues;
+            long[] swapIds = fromIds;
+            fromIds = toIds;
+            toIds = swapIds;
+        }
+        if (fromDues != dues) {
+            System.arraycopy(fromDues, 0, dues, 0, n);
+            System.arraycopy(fromIds, 0, ids, 0, n);
+        }
+    }
+}
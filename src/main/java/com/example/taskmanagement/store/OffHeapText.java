@@ -0,0 +1,102 @@
+package com.example.taskmanagement.store;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Append-only UTF-8 text outside the Java heap, in direct buffers of a fixed size.
+//
+// A string is addressed by one long: its byte position in the upper 48 bits and its length in the
+// lower 16. Replaced strings are not reused, only counted as garbage; the owner copies the live
+// ones into a fresh instance when too much of it is garbage. Not thread-safe - the owner locks.
+final class OffHeapText {
+
+    static final long NULL = -1;
+
+    private static final int LENGTH_BITS = 16;
+    private static final int MAX_LENGTH = (1 << LENGTH_BITS) - 1;
+
+    private final int chunkSize;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long used;
+    private long garbage;
+
+    OffHeapText(int chunkSize) {
+        if (chunkSize < MAX_LENGTH) {
+            throw new IllegalArgumentException("Text chunks must hold at least " + MAX_LENGTH + " bytes");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    long add(String text) {
+        if (text == null) {
+            return NULL;
+        }
+        return add(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long add(byte[] bytes) {
+        if (bytes.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Text longer than " + MAX_LENGTH + " UTF-8 bytes");
+        }
+        // A string never spans two chunks; the unused end of a chunk counts as garbage
+        int offset = (int) (used % chunkSize);
+        if (offset + bytes.length > chunkSize) {
+            garbage += chunkSize - offset;
+            used += chunkSize - offset;
+            offset = 0;
+        }
+        int chunk = (int) (used / chunkSize);
+        if (chunk == chunks.size()) {
+            chunks.add(ByteBuffer.allocateDirect(chunkSize));
+        }
+        chunks.get(chunk).put(offset, bytes);
+        long ref = used << LENGTH_BITS | bytes.length;
+        used += bytes.length;
+        return ref;
+    }
+
+    String get(long ref) {
+        if (ref == NULL) {
+            return null;
+        }
+        long position = ref >>> LENGTH_BITS;
+        byte[] bytes = new byte[(int) (ref & MAX_LENGTH)];
+        chunks.get((int) (position / chunkSize)).get((int) (position % chunkSize), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void release(long ref) {
+        if (ref != NULL) {
+            garbage += ref & MAX_LENGTH;
+        }
+    }
+
+    // Copy one string from another instance without decoding it
+    long copyFrom(OffHeapText source, long ref) {
+        if (ref == NULL) {
+            return NULL;
+        }
+        long position = ref >>> LENGTH_BITS;
+        byte[] bytes = new byte[(int) (ref & MAX_LENGTH)];
+        source.chunks.get((int) (position / source.chunkSize)).get((int) (position % source.chunkSize), bytes);
+        return add(bytes);
+    }
+
+    long usedBytes() {
+        return used;
+    }
+
+    long garbageBytes() {
+        return garbage;
+    }
+
+    long allocatedBytes() {
+        return (long) chunks.size() * chunkSize;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+}
@@ -0,0 +1,550 @@
+package com.example.taskmanagement.store;
+
+import com.example.taskmanagement.config.TaskStoreProperties;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+// A compact, column-oriented copy of the tasks table for the read-mostly working set (tasks.store.enabled).
+//
+// Each task is a slot in a set of parallel primitive arrays - id, created/due time as epoch
+// microseconds, version - plus one bit each for "completed" and "deleted". Title and description
+// are UTF-8 in direct buffers (OffHeapText), so a task costs about 50 bytes of heap instead of the
+// few hundred an entity or cached DTO does, and the GC has almost nothing to trace.
+//
+// Slots are kept in id order, so a lookup is a binary search and a keyset page is a scan from the
+// cursor that skips 64 slots at a time on the status bits. Neither allocates anything beyond the
+// DTOs it returns. Pending tasks with a due date are also kept in a DueDateIndex, so a narrow
+// due-date window doesn't have to scan every pending task.
+//
+// Loaded from the database on startup, then kept current from committed writes (TaskChangedEvent)
+// and from other instances' changes (CacheInvalidator calls refresh). Until the load has finished
+// isReady() is false and TaskService reads through its usual caches.
+@Component
+public class TaskColumnStore implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskColumnStore.class);
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final long NULL_VERSION = Long.MIN_VALUE;
+
+    // TaskService depends on this bean, so it is looked up when first used. An ObjectProvider rather
+    // than @Lazy, whose class-based proxy breaks under AOT processing (mvn -Paot).
+    private final ObjectProvider<TaskService> taskService;
+    private final TaskRepository taskRepository;
+    private final TaskStoreProperties properties;
+
+    // Readers share the lock; writes (one per committed change) take it exclusively
+    private final StampedLock lock = new StampedLock();
+
+    // Columns, all guarded by "lock". Slots [0, slots) are used and sorted by id.
+    private long[] ids;
+    private long[] createdAt;
+    private long[] dueDates;
+    private long[] versions;
+    private long[] titles;
+    private long[] descriptions;
+    private long[] completed;
+    private long[] deleted;
+    private int slots;
+    private int deletedSlots;
+    private OffHeapText text;
+
+    // Pending tasks by due date - built once the load has finished, then kept up to date by put/remove
+    private final DueDateIndex dueIndex = new DueDateIndex(this::isIndexed);
+
+    private volatile boolean ready;
+
+    // Ids written through events while the startup load runs - the load must not overwrite them
+    // with the older row it may have read
+    private final Set<Long> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    public TaskColumnStore(ObjectProvider<TaskService> taskService, TaskRepository taskRepository,
+                           TaskStoreProperties properties, MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.taskRepository = taskRepository;
+        this.properties = properties;
+
+        int capacity = Math.max(64, properties.getInitialCapacity());
+        this.ids = new long[capacity];
+        this.createdAt = new long[capacity];
+        this.dueDates = new long[capacity];
+        this.versions = new long[capacity];
+        this.titles = new long[capacity];
+        this.descriptions = new long[capacity];
+        this.completed = new long[words(capacity)];
+        this.deleted = new long[words(capacity)];
+        this.text = new OffHeapText((int) properties.getTextChunkSize().toBytes());
+
+        if (properties.isEnabled()) {
+            Gauge.builder("tasks.store.tasks", this, TaskColumnStore::size)
+                    .description("Tasks held in the column store")
+                    .register(meterRegistry);
+            Gauge.builder("tasks.store.heap.bytes", this, TaskColumnStore::heapBytes)
+                    .description("Heap used by the column store's arrays")
+                    .register(meterRegistry);
+            Gauge.builder("tasks.store.offheap.bytes", this, TaskColumnStore::offHeapBytes)
+                    .description("Direct memory allocated for titles and descriptions")
+                    .register(meterRegistry);
+        }
+    }
+
+    // True once the startup load has finished - from then on the store is a complete copy
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Load every task once the application has started
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        loading = true;
+        try {
+            taskService.getObject().streamAllTasks(task -> {
+                if (!changedDuringLoad.contains(task.getId())) {
+                    put(task, false, true, true);
+                }
+            });
+        } finally {
+            loading = false;
+            changedDuringLoad.clear();
+        }
+        long stamp = lock.writeLock();
+        try {
+            buildDueIndex();
+            ready = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        log.info("Loaded {} tasks into the column store in {}ms ({} KB heap, {} KB off-heap)", size(),
+                System.currentTimeMillis() - start, heapBytes() / 1024, offHeapBytes() / 1024);
+    }
+
+    // Runs after the write commits (or immediately when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (loading) {
+            changedDuringLoad.add(event.getTaskId());
+        }
+        if (event.isRemoval()) {
+            remove(event.getTaskId());
+            return;
+        }
+        // Ids are never reused, so only a restore brings a task back from a tombstone - a CREATED or
+        // UPDATED event for a deleted slot arrived after the delete and is dropped. An update for a
+        // task with no slot at all (its tombstone was compacted away) is settled by the database.
+        boolean mayInsert = event.getType() != TaskChangedEvent.Type.UPDATED;
+        boolean mayRevive = event.getType() == TaskChangedEvent.Type.RESTORED;
+        if (!put(event.getAfter(), true, mayInsert, mayRevive)) {
+            refresh(event.getTaskId());
+        }
+    }
+
+    // Re-read one task from the database - for changes committed by another instance
+    public void refresh(long id) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (loading) {
+            changedDuringLoad.add(id);
+        }
+        Optional<TaskResponse> task = taskRepository.findResponseById(id);
+        if (task.isPresent()) {
+            put(task.get(), true, true, true);
+        } else {
+            remove(id);
+        }
+    }
+
+    public Optional<TaskResponse> get(long id) {
+        long stamp = lock.readLock();
+        try {
+            int slot = Arrays.binarySearch(ids, 0, slots, id);
+            if (slot < 0 || isSet(deleted, slot)) {
+                return Optional.empty();
+            }
+            return Optional.of(toResponse(slot));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // The first "size" tasks with an id greater than the cursor; completed filters on status (null = all)
+    public CursorPage<TaskResponse> page(long cursor, int size, Boolean completed) {
+        List<TaskResponse> rows = new ArrayList<>(size + 1);
+        long stamp = lock.readLock();
+        try {
+            int slot = nextMatch(firstSlotAfter(cursor), completed);
+            while (slot >= 0 && rows.size() <= size) {
+                rows.add(toResponse(slot));
+                slot = nextMatch(slot + 1, completed);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return CursorPage.of(rows, size, TaskResponse::getId);
+    }
+
+    // Like page(), for pending tasks due in [from, to) - from may be null for "no lower bound"
+    public CursorPage<TaskResponse> pagePendingDueBetween(LocalDateTime from, LocalDateTime to, long cursor, int size) {
+        long lower = from == null ? NULL_TIME + 1 : toMicros(from);
+        long upper = toMicros(to);
+        List<TaskResponse> rows = new ArrayList<>(size + 1);
+        long stamp = lock.readLock();
+        try {
+            // Scanning in id order visits about live / inRange slots per match, reading the index
+            // range visits inRange entries - take whichever is cheaper for this window
+            int inRange = dueIndex.countBetween(lower, upper);
+            if (ready && (long) inRange * inRange <= (long) (size + 1) * (slots - deletedSlots)) {
+                readDueRange(lower, upper, cursor, size, rows);
+            } else {
+                scanDueRange(lower, upper, cursor, size, rows);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return CursorPage.of(rows, size, TaskResponse::getId);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return slots - deletedSlots;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long heapBytes() {
+        long stamp = lock.readLock();
+        try {
+            return 8L * (6L * ids.length + 2L * completed.length) + dueIndex.heapBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long offHeapBytes() {
+        long stamp = lock.readLock();
+        try {
+            return text.allocatedBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // checkVersion: an event can arrive after a newer one for the same task (two transactions
+    // committing close together), so never go back to an older version.
+    // mayInsert: whether a task without a slot may be added - returns false if not.
+    // mayRevive: whether a deleted (or archived) task may come back; otherwise its tombstone wins.
+    private boolean put(TaskResponse task, boolean checkVersion, boolean mayInsert, boolean mayRevive) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = Arrays.binarySearch(ids, 0, slots, task.getId());
+            long indexedDue = NULL_TIME;
+            if (slot >= 0) {
+                if (isSet(deleted, slot)) {
+                    if (!mayRevive) {
+                        return true;
+                    }
+                    clear(deleted, slot);
+                    deletedSlots--;
+                } else if (checkVersion && task.getVersion() != null && versions[slot] != NULL_VERSION
+                        && versions[slot] > task.getVersion()) {
+                    return true;
+                } else if (!isSet(completed, slot)) {
+                    indexedDue = dueDates[slot];
+                }
+                text.release(titles[slot]);
+                text.release(descriptions[slot]);
+            } else if (!mayInsert) {
+                return false;
+            } else {
+                slot = -slot - 1;
+                insertSlot(slot);
+            }
+            ids[slot] = task.getId();
+            createdAt[slot] = toMicros(task.getCreatedAt());
+            dueDates[slot] = toMicros(task.getDueDate());
+            versions[slot] = task.getVersion() == null ? NULL_VERSION : task.getVersion();
+            titles[slot] = text.add(task.getTitle());
+            descriptions[slot] = text.add(task.getDescription());
+            if (Boolean.TRUE.equals(task.getIsCompleted())) {
+                set(completed, slot);
+            } else {
+                clear(completed, slot);
+            }
+            long newDue = isSet(completed, slot) ? NULL_TIME : dueDates[slot];
+            if (ready && newDue != indexedDue) {
+                if (indexedDue != NULL_TIME) {
+                    dueIndex.markStale();
+                }
+                if (newDue != NULL_TIME) {
+                    dueIndex.add(newDue, ids[slot]);
+                }
+            }
+            compactTextIfNeeded();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = Arrays.binarySearch(ids, 0, slots, id);
+            if (slot < 0 || isSet(deleted, slot)) {
+                return;
+            }
+            if (ready && !isSet(completed, slot) && dueDates[slot] != NULL_TIME) {
+                dueIndex.markStale();
+            }
+            set(deleted, slot);
+            deletedSlots++;
+            text.release(titles[slot]);
+            text.release(descriptions[slot]);
+            titles[slot] = OffHeapText.NULL;
+            descriptions[slot] = OffHeapText.NULL;
+            // Deleted slots are skipped by every scan; squeeze them out once they are a quarter of the store
+            if (deletedSlots > 1024 && deletedSlots > slots / 4) {
+                compactSlots();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Open a slot at "slot", moving the ones after it up. Ids mostly arrive in ascending order,
+    // so this is usually an append and otherwise moves only the newest few slots.
+    private void insertSlot(int slot) {
+        if (slots == ids.length) {
+            grow(ids.length + (ids.length >> 1));
+        }
+        int moved = slots - slot;
+        if (moved > 0) {
+            System.arraycopy(ids, slot, ids, slot + 1, moved);
+            System.arraycopy(createdAt, slot, createdAt, slot + 1, moved);
+            System.arraycopy(dueDates, slot, dueDates, slot + 1, moved);
+            System.arraycopy(versions, slot, versions, slot + 1, moved);
+            System.arraycopy(titles, slot, titles, slot + 1, moved);
+            System.arraycopy(descriptions, slot, descriptions, slot + 1, moved);
+            for (int i = slots; i > slot; i--) {
+                copyBit(completed, i - 1, i);
+                copyBit(deleted, i - 1, i);
+            }
+        }
+        clear(deleted, slot);
+        slots++;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        dueDates = Arrays.copyOf(dueDates, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        completed = Arrays.copyOf(completed, words(capacity));
+        deleted = Arrays.copyOf(deleted, words(capacity));
+    }
+
+    // Drop deleted slots, keeping the rest in order
+    private void compactSlots() {
+        int to = 0;
+        for (int from = 0; from < slots; from++) {
+            if (isSet(deleted, from)) {
+                continue;
+            }
+            if (to != from) {
+                ids[to] = ids[from];
+                createdAt[to] = createdAt[from];
+                dueDates[to] = dueDates[from];
+                versions[to] = versions[from];
+                titles[to] = titles[from];
+                descriptions[to] = descriptions[from];
+                copyBit(completed, from, to);
+            }
+            to++;
+        }
+        Arrays.fill(completed, to >>> 6, completed.length, 0L);
+        if ((to & 63) != 0) {
+            completed[to >>> 6] &= (1L << (to & 63)) - 1;
+        }
+        Arrays.fill(deleted, 0L);
+        slots = to;
+        deletedSlots = 0;
+    }
+
+    // Once more than half of the off-heap text is garbage, copy the live strings into new buffers
+    // (the old ones are freed when the GC collects them)
+    private void compactTextIfNeeded() {
+        if (text.garbageBytes() < text.chunkSize() || text.garbageBytes() * 2 < text.usedBytes()) {
+            return;
+        }
+        OffHeapText compacted = new OffHeapText(text.chunkSize());
+        for (int slot = 0; slot < slots; slot++) {
+            titles[slot] = compacted.copyFrom(text, titles[slot]);
+            descriptions[slot] = compacted.copyFrom(text, descriptions[slot]);
+        }
+        text = compacted;
+    }
+
+    // The old id-order scan over every pending task, for wide windows
+    private void scanDueRange(long lower, long upper, long cursor, int size, List<TaskResponse> rows) {
+        int slot = nextMatch(firstSlotAfter(cursor), false);
+        while (slot >= 0 && rows.size() <= size) {
+            long due = dueDates[slot];
+            if (due != NULL_TIME && due >= lower && due < upper) {
+                rows.add(toResponse(slot));
+            }
+            slot = nextMatch(slot + 1, false);
+        }
+    }
+
+    // Read the window from the due-date index, then put the matches back in id order for the page
+    private void readDueRange(long lower, long upper, long cursor, int size, List<TaskResponse> rows) {
+        long[] matches = new long[dueIndex.countBetween(lower, upper)];
+        int[] count = new int[1];
+        dueIndex.forEachBetween(lower, upper, (due, id) -> {
+            if (id > cursor && isIndexed(due, id)) {
+                matches[count[0]++] = id;
+            }
+        });
+        Arrays.sort(matches, 0, count[0]);
+        for (int i = 0; i < count[0] && rows.size() <= size; i++) {
+            // An entry can be in the index twice (due date changed and changed back)
+            if (i > 0 && matches[i] == matches[i - 1]) {
+                continue;
+            }
+            rows.add(toResponse(Arrays.binarySearch(ids, 0, slots, matches[i])));
+        }
+    }
+
+    // Fill the due-date index from the columns
+    private void buildDueIndex() {
+        long[] dues = new long[slots];
+        long[] dueIds = new long[slots];
+        int count = 0;
+        for (int slot = nextMatch(0, false); slot >= 0; slot = nextMatch(slot + 1, false)) {
+            if (dueDates[slot] != NULL_TIME) {
+                dues[count] = dueDates[slot];
+                dueIds[count] = ids[slot];
+                count++;
+            }
+        }
+        dueIndex.reset(dues, dueIds, count);
+    }
+
+    // Whether a due-date index entry still holds: the task is live, pending and due then
+    private boolean isIndexed(long due, long id) {
+        int slot = Arrays.binarySearch(ids, 0, slots, id);
+        return slot >= 0 && !isSet(deleted, slot) && !isSet(completed, slot) && dueDates[slot] == due;
+    }
+
+    private int firstSlotAfter(long cursor) {
+        int slot = Arrays.binarySearch(ids, 0, slots, cursor);
+        return slot >= 0 ? slot + 1 : -slot - 1;
+    }
+
+    // The first live slot at or after "from" whose status matches (null = any), or -1.
+    // Works a 64-slot word at a time, so long runs of non-matching tasks cost one step per word.
+    private int nextMatch(int from, Boolean isCompleted) {
+        if (from >= slots) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long candidates = candidates(word, isCompleted) & (-1L << (from & 63));
+        int lastWord = (slots - 1) >>> 6;
+        while (candidates == 0) {
+            if (++word > lastWord) {
+                return -1;
+            }
+            candidates = candidates(word, isCompleted);
+        }
+        int slot = (word << 6) + Long.numberOfTrailingZeros(candidates);
+        return slot < slots ? slot : -1;
+    }
+
+    private long candidates(int word, Boolean isCompleted) {
+        long live = ~deleted[word];
+        if (isCompleted == null) {
+            return live;
+        }
+        return isCompleted ? live & completed[word] : live & ~completed[word];
+    }
+
+    private TaskResponse toResponse(int slot) {
+        return new TaskResponse(ids[slot], text.get(titles[slot]), text.get(descriptions[slot]),
+                fromMicros(createdAt[slot]), fromMicros(dueDates[slot]), isSet(completed, slot),
+                versions[slot] == NULL_VERSION ? null : versions[slot]);
+    }
+
+    // Timestamps are stored as microseconds since 1970-01-01T00:00 (the database keeps microseconds too)
+    private static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return NULL_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private static void copyBit(long[] bits, int from, int to) {
+        if (isSet(bits, from)) {
+            set(bits, to);
+        } else {
+            clear(bits, to);
+        }
+    }
+}
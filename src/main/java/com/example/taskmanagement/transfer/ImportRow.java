@@ -0,0 +1,18 @@
+package com.example.taskmanagement.transfer;
+
+import com.example.taskmanagement.dto.TaskImportRequest;
+
+import java.util.Map;
+
+// One record of an import file: its position (0 = first record after any header) and either
+// the parsed request or the reasons it could not be read
+public record ImportRow(int index, TaskImportRequest request, Map<String, String> errors) {
+
+    static ImportRow parsed(int index, TaskImportRequest request) {
+        return new ImportRow(index, request, null);
+    }
+
+    static ImportRow unreadable(int index, Map<String, String> errors) {
+        return new ImportRow(index, null, errors);
+    }
+}
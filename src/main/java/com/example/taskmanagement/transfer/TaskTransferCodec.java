@@ -0,0 +1,256 @@
+package com.example.taskmanagement.transfer;
+
+import com.example.taskmanagement.dto.TaskImportRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+// Reads and writes task files (CSV or NDJSON) one row at a time, so a file of any size is
+// handled in the same, small amount of memory.
+//
+// Both formats use the JSON field names. Export writes every TaskResponse field; import reads the
+// TaskImportRequest fields (title, description, dueDate, createdAt, isCompleted), so an exported file
+// can be imported again. Import only creates: id and version are ignored and every row is a new task. A row that can't be read becomes an ImportRow with errors instead of
+// failing the whole import.
+@Component
+public class TaskTransferCodec {
+
+    // Longest NDJSON line read - several times what a valid task needs, so one row's memory stays bounded
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    // Export flushes every so many rows, so clients see the file arrive while it is being read
+    private static final int FLUSH_EVERY = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final ObjectReader csvRowReader;
+    private final ObjectWriter csvWriter;
+    private final ObjectWriter ndjsonWriter;
+
+    public TaskTransferCodec(ObjectMapper objectMapper, ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(TaskImportRequest.class);
+        this.ndjsonWriter = objectMapper.writerFor(TaskResponse.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        // Same date format and modules as the JSON API
+        ObjectMapper csvMapper = builders.getObject().factory(new CsvFactory()).build();
+        this.csvRowReader = csvMapper.readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .with(CsvParser.Feature.SKIP_EMPTY_LINES);
+        CsvSchema exportSchema = CsvSchema.builder()
+                .addColumn("id")
+                .addColumn("title")
+                .addColumn("description")
+                .addColumn("createdAt")
+                .addColumn("dueDate")
+                .addColumn("isCompleted")
+                .addColumn("version")
+                .setUseHeader(true)
+                .build();
+        this.csvWriter = csvMapper.writerFor(TaskResponse.class)
+                .with(exportSchema)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    // The rows of an import file, parsed as they are iterated. I/O errors (the client going away)
+    // are thrown as UncheckedIOException.
+    public Iterator<ImportRow> read(TaskTransferFormat format, InputStream in, Charset charset) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        return format == TaskTransferFormat.CSV ? new CsvRows(reader) : new NdjsonRows(reader);
+    }
+
+    // Write every task the source produces. The source is expected to stream them from a database cursor.
+    public void write(TaskTransferFormat format, OutputStream out, Consumer<Consumer<TaskResponse>> source)
+            throws IOException {
+        ObjectWriter writer = format == TaskTransferFormat.CSV ? csvWriter : ndjsonWriter;
+        int[] written = {0};
+        try (SequenceWriter rows = writer.writeValues(out)) {
+            source.accept(task -> {
+                try {
+                    rows.write(task);
+                    if (++written[0] % FLUSH_EVERY == 0) {
+                        rows.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        // The separator only goes between rows; NDJSON ends every line with one
+        if (format == TaskTransferFormat.NDJSON && written[0] > 0) {
+            out.write('\n');
+        }
+    }
+
+    // Turn one CSV record (column name -> text) into a request. Empty cells count as absent.
+    private ImportRow toRow(int index, Map<String, String> record) {
+        record.values().removeIf(String::isEmpty);
+        try {
+            return ImportRow.parsed(index, objectMapper.convertValue(record, TaskImportRequest.class));
+        } catch (IllegalArgumentException e) {
+            if (e.getCause() instanceof JsonMappingException mappingException) {
+                return ImportRow.unreadable(index, errors(mappingException));
+            }
+            throw e;
+        }
+    }
+
+    // A field error when the problem can be pinned to a field, otherwise one for the whole row
+    private static Map<String, String> errors(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            String field = mappingException.getPath().get(0).getFieldName();
+            if (field != null) {
+                return Map.of(field, "Invalid value");
+            }
+        }
+        return Map.of("row", "Unreadable row: " + e.getOriginalMessage());
+    }
+
+    // Reads ahead one row, so hasNext() can answer without throwing parse errors at the caller
+    private abstract static class RowIterator implements Iterator<ImportRow> {
+        private ImportRow next;
+        private boolean done;
+
+        // The next row, or null at the end of the input
+        protected abstract ImportRow readNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+
+    private class CsvRows extends RowIterator {
+        private final MappingIterator<Map<String, String>> records;
+        private int index;
+        private boolean broken;
+
+        private CsvRows(BufferedReader reader) throws IOException {
+            this.records = csvRowReader.readValues(reader);
+        }
+
+        @Override
+        protected ImportRow readNext() throws IOException {
+            if (broken) {
+                return null;
+            }
+            try {
+                if (!records.hasNextValue()) {
+                    return null;
+                }
+                return toRow(index++, records.nextValue());
+            } catch (JsonProcessingException e) {
+                // Broken CSV (an unclosed quote, say) - where the next row starts can't be known, so stop here
+                broken = true;
+                return ImportRow.unreadable(index++, errors(e));
+            }
+        }
+    }
+
+    private class NdjsonRows extends RowIterator {
+        private final BufferedReader reader;
+        private final StringBuilder line = new StringBuilder();
+        private int index;
+
+        private NdjsonRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected ImportRow readNext() throws IOException {
+            while (true) {
+                Boolean complete = readLine();
+                if (complete == null) {
+                    return null;
+                }
+                if (!complete) {
+                    return ImportRow.unreadable(index++, Map.of("row", "Line longer than " + MAX_LINE_LENGTH + " characters"));
+                }
+                if (line.toString().isBlank()) {
+                    continue;
+                }
+                // Each line is parsed on its own, so a bad line doesn't affect the ones after it
+                try {
+                    TaskImportRequest request = requestReader.readValue(line.toString());
+                    if (request == null) {
+                        return ImportRow.unreadable(index++, Map.of("row", "Item is required"));
+                    }
+                    return ImportRow.parsed(index++, request);
+                } catch (JsonProcessingException e) {
+                    return ImportRow.unreadable(index++, errors(e));
+                }
+            }
+        }
+
+        // Read the next line into "line": true if it was read whole, false if it was too long
+        // (the rest is skipped), null at the end of the input
+        private Boolean readLine() throws IOException {
+            line.setLength(0);
+            boolean tooLong = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (c == '\n') {
+                    break;
+                }
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            return !tooLong;
+        }
+    }
+}
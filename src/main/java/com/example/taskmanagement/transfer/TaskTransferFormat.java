@@ -0,0 +1,48 @@
+package com.example.taskmanagement.transfer;
+
+import org.springframework.http.MediaType;
+
+// File formats for importing and exporting tasks
+public enum TaskTransferFormat {
+
+    // One task per row, with a header row naming the columns
+    CSV("csv", new MediaType("text", "csv")),
+    // One JSON object per line
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String name;
+    private final MediaType mediaType;
+
+    TaskTransferFormat(String name, MediaType mediaType) {
+        this.name = name;
+        this.mediaType = mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // The format for a request Content-Type, or null if it is neither
+    public static TaskTransferFormat of(MediaType contentType) {
+        for (TaskTransferFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    // The format for a name like "csv", or null if there is none
+    public static TaskTransferFormat of(String name) {
+        for (TaskTransferFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.taskmanagement.writebehind;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Everything queued for one task since its last write, merged into a single change: the fields of
+// later updates win over earlier ones, and a delete makes any later update (or delete) a miss.
+// Guarded by the stripe that holds it until it is taken for writing.
+class PendingTaskWrite {
+
+    private final Long taskId;
+
+    // System.nanoTime() of the first write, which the stripe's max delay is counted from
+    private final long queuedAt;
+
+    // Merged field changes, null when there are none
+    private TaskUpdateRequest changes;
+    private boolean delete;
+
+    // Callers waiting for the commit: updates get the task after the changes, deletes the task as
+    // it was, and anything queued after the delete gets empty (not found)
+    private final List<CompletableFuture<Optional<TaskResponse>>> updates = new ArrayList<>(1);
+    private final List<CompletableFuture<Optional<TaskResponse>>> deletes = new ArrayList<>(1);
+    private final List<CompletableFuture<Optional<TaskResponse>>> missing = new ArrayList<>(0);
+
+    // Set while writing
+    private TaskResponse before;
+    private TaskResponse after;
+
+    PendingTaskWrite(Long taskId, long queuedAt) {
+        this.taskId = taskId;
+        this.queuedAt = queuedAt;
+    }
+
+    CompletableFuture<Optional<TaskResponse>> update(TaskUpdateRequest request) {
+        CompletableFuture<Optional<TaskResponse>> result = new CompletableFuture<>();
+        if (delete) {
+            missing.add(result);
+            return result;
+        }
+        if (changes == null) {
+            changes = new TaskUpdateRequest();
+        }
+        if (request.getTitle() != null) {
+            changes.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            changes.setDescription(request.getDescription());
+        }
+        if (request.getDueDate() != null) {
+            changes.setDueDate(request.getDueDate());
+        }
+        if (request.getIsCompleted() != null) {
+            changes.setIsCompleted(request.getIsCompleted());
+        }
+        updates.add(result);
+        return result;
+    }
+
+    CompletableFuture<Optional<TaskResponse>> delete() {
+        CompletableFuture<Optional<TaskResponse>> result = new CompletableFuture<>();
+        if (delete) {
+            missing.add(result);
+        } else {
+            delete = true;
+            deletes.add(result);
+        }
+        return result;
+    }
+
+    Long getTaskId() {
+        return taskId;
+    }
+
+    long getQueuedAt() {
+        return queuedAt;
+    }
+
+    TaskUpdateRequest getChanges() {
+        return changes;
+    }
+
+    boolean isDelete() {
+        return delete;
+    }
+
+    // Number of requests merged into this write
+    int size() {
+        return updates.size() + deletes.size() + missing.size();
+    }
+
+    // The task before and after the changes, or nulls when it doesn't exist
+    void setResult(TaskResponse before, TaskResponse after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    // Called once the write has committed
+    void complete() {
+        updates.forEach(result -> result.complete(Optional.ofNullable(after)));
+        deletes.forEach(result -> result.complete(Optional.ofNullable(before)));
+        missing.forEach(result -> result.complete(Optional.empty()));
+    }
+
+    void fail(Throwable error) {
+        updates.forEach(result -> result.completeExceptionally(error));
+        deletes.forEach(result -> result.completeExceptionally(error));
+        missing.forEach(result -> result.completeExceptionally(error));
+    }
+}
@@ -0,0 +1,406 @@
+package com.example.taskmanagement.writebehind;
+
+import com.example.taskmanagement.config.CacheConfig;
+import com.example.taskmanagement.config.TaskWriteBehindProperties;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskUpdateRequest;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.example.taskmanagement.mapper.TaskMapper;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Write-behind for single-task updates and deletes (tasks.write-behind.enabled).
+//
+// Writes are queued per task id in one of a few stripes. A write to a task that already has one
+// queued is merged into it, so a task toggled fifty times within the window costs one UPDATE (or
+// none, if it ends up where it started). Each stripe has one writer thread that takes up to
+// maxBatchSize tasks once the oldest has waited maxDelay (or the batch is full) and writes them in
+// a single transaction - a batched UPDATE/DELETE per statement type and one commit, with the same
+// events, cache updates and completion notification as the synchronous path.
+//
+// Callers get a future that completes when their write has committed. If a batch fails, its tasks
+// are retried one transaction each, so one bad task only fails its own callers.
+@Component
+public class TaskWriteBehind implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehind.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskWriteBehindProperties properties;
+    private final Cache taskByIdCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Stripe[] stripes;
+    private final long maxDelayNanos;
+    private final int stripeCapacity;
+    private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("task-write-behind-");
+    private volatile CountDownLatch writersDone;
+    private volatile boolean running;
+
+    // Metrics
+    private final Counter queuedWrites;
+    private final Counter mergedWrites;
+    private final Counter failedWrites;
+    private final Counter transactions;
+    private final DistributionSummary batchSize;
+    private final Timer latency;
+
+    public TaskWriteBehind(TaskRepository taskRepository, TaskMapper taskMapper,
+                           NotificationService notificationService, ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate, CacheManager cacheManager,
+                           TaskWriteBehindProperties properties,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.taskByIdCache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+
+        this.stripes = new Stripe[Math.max(1, properties.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxDelayNanos = properties.getMaxDelay().toNanos();
+        this.stripeCapacity = Math.max(1, properties.getMaxPending() / stripes.length);
+        // Writers spend most of their time waiting on the database
+        this.executor.setVirtualThreads(virtualThreads);
+
+        Gauge.builder("tasks.write-behind.pending", this, TaskWriteBehind::pendingCount)
+                .description("Tasks with a queued write")
+                .register(meterRegistry);
+        this.queuedWrites = requestCounter(meterRegistry, "queued");
+        this.mergedWrites = requestCounter(meterRegistry, "merged");
+        this.failedWrites = Counter.builder("tasks.write-behind.failed")
+                .description("Queued writes that could not be applied")
+                .register(meterRegistry);
+        this.transactions = Counter.builder("tasks.write-behind.transactions")
+                .description("Transactions committed by the writers")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("tasks.write-behind.batch.size")
+                .description("Tasks per transaction")
+                .register(meterRegistry);
+        this.latency = Timer.builder("tasks.write-behind.latency")
+                .description("Time from queuing a task's first write to its commit")
+                .register(meterRegistry);
+    }
+
+    // Queue an update that changes the fields set in the request
+    public CompletableFuture<Optional<TaskResponse>> update(Long id, TaskUpdateRequest changes) {
+        return enqueue(id, pending -> pending.update(changes));
+    }
+
+    // Queue a delete; the result is the deleted task, or empty if there was none
+    public CompletableFuture<Optional<TaskResponse>> delete(Long id) {
+        return enqueue(id, PendingTaskWrite::delete);
+    }
+
+    // Write whatever is queued for the task now, in the caller's thread. Writes that need the current
+    // state of the task (If-Match) call this first. Must not be called inside a transaction.
+    public void flush(Long id) {
+        Stripe stripe = stripeOf(id);
+        stripe.writeLock.lock();
+        try {
+            PendingTaskWrite pending;
+            synchronized (stripe) {
+                pending = stripe.writes.remove(id);
+                stripe.notifyAll();
+            }
+            if (pending != null) {
+                write(List.of(pending));
+            }
+        } finally {
+            stripe.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        writersDone = new CountDownLatch(stripes.length);
+        running = true;
+        for (Stripe stripe : stripes) {
+            executor.execute(() -> writerLoop(stripe));
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // The writers write everything still queued before they exit
+        running = false;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.notifyAll();
+            }
+        }
+        try {
+            if (!writersDone.await(30, TimeUnit.SECONDS)) {
+                log.warn("Write-behind writers did not finish in time, {} queued tasks were not written", pendingCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the web server, so no request finds the queue stopped
+    // and everything queued by the last requests is still written
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public int pendingCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.writes.size();
+            }
+        }
+        return count;
+    }
+
+    private CompletableFuture<Optional<TaskResponse>> enqueue(Long id, Function<PendingTaskWrite,
+            CompletableFuture<Optional<TaskResponse>>> write) {
+        if (!running) {
+            throw new IllegalStateException("Write-behind is not running");
+        }
+        Stripe stripe = stripeOf(id);
+        synchronized (stripe) {
+            while (true) {
+                PendingTaskWrite pending = stripe.writes.get(id);
+                if (pending != null) {
+                    mergedWrites.increment();
+                    return write.apply(pending);
+                }
+                if (stripe.writes.size() < stripeCapacity) {
+                    break;
+                }
+                // Full: have the writer start on a batch now and wait for the room it makes
+                stripe.notifyAll();
+                try {
+                    stripe.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for room in the write queue", e);
+                }
+            }
+            PendingTaskWrite pending = new PendingTaskWrite(id, System.nanoTime());
+            stripe.writes.put(id, pending);
+            if (stripe.writes.size() == 1 || stripe.writes.size() >= properties.getMaxBatchSize()) {
+                stripe.notifyAll();
+            }
+            queuedWrites.increment();
+            return write.apply(pending);
+        }
+    }
+
+    private void writerLoop(Stripe stripe) {
+        try {
+            while (true) {
+                try {
+                    if (!awaitBatch(stripe)) {
+                        return;
+                    }
+                    stripe.writeLock.lock();
+                    try {
+                        List<PendingTaskWrite> batch = takeBatch(stripe);
+                        if (!batch.isEmpty()) {
+                            write(batch);
+                        }
+                    } finally {
+                        stripe.writeLock.unlock();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Write-behind writer failed", e);
+                }
+            }
+        } finally {
+            writersDone.countDown();
+        }
+    }
+
+    // Wait until the oldest queued write has waited maxDelay, a full batch is queued, or we are
+    // stopping. False once we are stopping and the stripe is empty.
+    private boolean awaitBatch(Stripe stripe) throws InterruptedException {
+        synchronized (stripe) {
+            while (true) {
+                if (stripe.writes.isEmpty()) {
+                    if (!running) {
+                        return false;
+                    }
+                    stripe.wait();
+                    continue;
+                }
+                long remaining = stripe.writes.values().iterator().next().getQueuedAt() + maxDelayNanos - System.nanoTime();
+                int size = stripe.writes.size();
+                if (remaining <= 0 || size >= properties.getMaxBatchSize() || size >= stripeCapacity || !running) {
+                    return true;
+                }
+                TimeUnit.NANOSECONDS.timedWait(stripe, remaining);
+            }
+        }
+    }
+
+    // Remove up to maxBatchSize of the oldest writes (a flush may have taken some in the meantime)
+    private List<PendingTaskWrite> takeBatch(Stripe stripe) {
+        synchronized (stripe) {
+            List<PendingTaskWrite> batch = new ArrayList<>(Math.min(stripe.writes.size(), properties.getMaxBatchSize()));
+            Iterator<PendingTaskWrite> oldestFirst = stripe.writes.values().iterator();
+            while (oldestFirst.hasNext() && batch.size() < properties.getMaxBatchSize()) {
+                batch.add(oldestFirst.next());
+                oldestFirst.remove();
+            }
+            // There is room again
+            stripe.notifyAll();
+            return batch;
+        }
+    }
+
+    // Write a batch in one transaction, falling back to one transaction per task if that fails
+    private void write(List<PendingTaskWrite> batch) {
+        try {
+            writeInTransaction(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                PendingTaskWrite pending = batch.get(0);
+                log.warn("Queued write to task {} failed: {}", pending.getTaskId(), e.getMessage());
+                failedWrites.increment(pending.size());
+                pending.fail(e);
+                return;
+            }
+            log.warn("Write-behind batch of {} tasks failed, writing them one by one: {}", batch.size(), e.getMessage());
+            for (PendingTaskWrite pending : batch) {
+                write(List.of(pending));
+            }
+            return;
+        }
+        transactions.increment();
+        batchSize.record(batch.size());
+        long now = System.nanoTime();
+        for (PendingTaskWrite pending : batch) {
+            latency.record(now - pending.getQueuedAt(), TimeUnit.NANOSECONDS);
+            pending.complete();
+        }
+    }
+
+    private void writeInTransaction(List<PendingTaskWrite> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = batch.stream().map(PendingTaskWrite::getTaskId).toList();
+            Map<Long, Task> found = taskRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            List<String> completedTitles = new ArrayList<>();
+            List<PendingTaskWrite> updates = new ArrayList<>(batch.size());
+            List<TaskResponse> befores = new ArrayList<>(batch.size());
+            for (PendingTaskWrite pending : batch) {
+                Task task = found.get(pending.getTaskId());
+                if (task == null) {
+                    pending.setResult(null, null);
+                    continue;
+                }
+                TaskResponse before = taskMapper.toResponse(task);
+                if (pending.getChanges() != null) {
+                    taskMapper.updateEntity(pending.getChanges(), task);
+                }
+                if (pending.isDelete()) {
+                    // Updates merged before the delete report the task as they left it; the row
+                    // itself is only deleted, never updated first
+                    pending.setResult(before, taskMapper.toResponse(task));
+                    taskRepository.delete(task);
+                    taskByIdCache.evict(task.getId());
+                    eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
+                    continue;
+                }
+                // Compared with the committed state, so a task completed and reopened within the window sends nothing
+                if (!before.getIsCompleted() && task.getIsCompleted()) {
+                    completedTitles.add(task.getTitle());
+                }
+                updates.add(pending);
+                befores.add(before);
+            }
+            if (!completedTitles.isEmpty()) {
+                notificationService.sendTasksCompletedNotification(completedTitles);
+            }
+            // Batched UPDATE and DELETE statements (a task whose merged changes cancelled out isn't updated at all)
+            entityManager.flush();
+            for (int i = 0; i < updates.size(); i++) {
+                PendingTaskWrite pending = updates.get(i);
+                TaskResponse after = taskMapper.toResponse(found.get(pending.getTaskId()));
+                pending.setResult(befores.get(i), after);
+                taskByIdCache.put(after.getId(), after);
+                eventPublisher.publishEvent(TaskChangedEvent.updated(befores.get(i), after));
+            }
+            entityManager.clear();
+        });
+    }
+
+    private Stripe stripeOf(Long id) {
+        return stripes[Math.floorMod(id.hashCode(), stripes.length)];
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("tasks.write-behind.requests")
+                .description("Writes queued for a task, or merged into one already queued")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Queued writes in the order their task was first queued, guarded by the stripe itself.
+    // writeLock is held while a batch of this stripe is being written.
+    private static class Stripe {
+        private final LinkedHashMap<Long, PendingTaskWrite> writes = new LinkedHashMap<>();
+        private final ReentrantLock writeLock = new ReentrantLock();
+    }
+}
@@ -0,0 +1,21 @@
+-- Tasks and their id sequence. The sequence steps by 50 to match the pooled
+-- allocationSize on Task (Hibernate hands out 50 ids per nextval).
+create sequence task_seq start with 1 increment by 50;
+
+create table tasks (
+    id           bigint not null,
+    title        varchar(255) not null,
+    description  varchar(1000),
+    created_at   timestamp(6),
+    due_date     timestamp(6),
+    is_completed boolean,
+    primary key (id)
+);
+
+-- Completed/pending keyset pages walk (is_completed, id)
+create index idx_tasks_completed_id on tasks (is_completed, id);
+
+-- Pending due-date scan for the stats counters
+create index idx_tasks_completed_due_date on tasks (is_completed, due_date);
+
+create index idx_tasks_created_at on tasks (created_at);
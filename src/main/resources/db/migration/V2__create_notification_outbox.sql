@@ -0,0 +1,17 @@
+-- Transactional outbox for task notifications (see NotificationOutboxEvent)
+create sequence notification_outbox_seq start with 1 increment by 50;
+
+create table notification_outbox (
+    id              bigint not null,
+    type            varchar(50) not null,
+    payload         clob not null,
+    status          varchar(20) not null,
+    attempts        integer not null,
+    created_at      timestamp(6) not null,
+    next_attempt_at timestamp(6) not null,
+    last_error      varchar(500),
+    primary key (id)
+);
+
+-- The dispatcher polls for PENDING rows whose next attempt is due
+create index idx_outbox_status_next_attempt on notification_outbox (status, next_attempt_at);
@@ -0,0 +1,2 @@
+-- Optimistic locking: Task.version is bumped by every update (see @Version on Task and TaskRecord)
+alter table tasks add column version bigint default 0 not null;
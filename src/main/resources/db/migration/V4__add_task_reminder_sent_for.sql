@@ -0,0 +1,4 @@
+-- Due date that the last reminder was sent for. A task needs a reminder while this differs
+-- from due_date, so moving the due date re-arms it without any extra bookkeeping.
+-- Reminder lookups use the existing (is_completed, due_date) index.
+alter table tasks add column reminder_sent_for timestamp(6);
@@ -0,0 +1,16 @@
+-- Indexes for the sort orders of task queries (see TaskQueryPlan). With id as the last column a
+-- keyset page is one index range read in order, stopping once the page is full.
+
+-- Pending/completed tasks soonest due first. Still serves everything that used the
+-- (is_completed, due_date) index: the stats due-date scan and the reminder range queries.
+drop index idx_tasks_completed_due_date;
+create index idx_tasks_completed_due_date_id on tasks (is_completed, due_date, id);
+
+-- Newest first. H2 doesn't read an index backwards, so these are descending; the second
+-- still serves created-at range filters like the index it replaces.
+create index idx_tasks_completed_created_at_id on tasks (is_completed, created_at desc, id desc);
+drop index idx_tasks_created_at;
+create index idx_tasks_created_at_id on tasks (created_at desc, id desc);
+
+-- Soonest due first and due-date ranges across all tasks
+create index idx_tasks_due_date_id on tasks (due_date, id);
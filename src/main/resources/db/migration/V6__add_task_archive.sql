@@ -0,0 +1,24 @@
+-- When the task was last completed (null while pending). Set by the application whenever
+-- is_completed turns true and cleared when the task is reopened. Tasks completed before this
+-- migration count from now, so none of them is archived before the configured age has passed.
+alter table tasks add column completed_at timestamp(6);
+update tasks set completed_at = current_timestamp where is_completed = true;
+
+-- The archiver's scan: completed tasks oldest completion first
+create index idx_tasks_completed_completed_at on tasks (is_completed, completed_at);
+
+-- Completed tasks moved out of the active table by TaskArchiver. Same columns as tasks plus the
+-- time they were archived; a restore moves the row back with the same id and version.
+create table tasks_archive (
+    id                bigint not null,
+    title             varchar(255) not null,
+    description       varchar(1000),
+    created_at        timestamp(6),
+    due_date          timestamp(6),
+    is_completed      boolean,
+    version           bigint not null,
+    reminder_sent_for timestamp(6),
+    completed_at      timestamp(6),
+    archived_at       timestamp(6) not null,
+    primary key (id)
+);